@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.api.database;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,8 +17,17 @@ public final class DatabaseConfig {
     private final String password;
     private final int poolSize;
     private final Map<String, String> properties;
+    private final List<DatabaseEndpoint> replicas;
 
     public DatabaseConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties) {
+        this(host, port, database, username, password, poolSize, properties, List.of());
+    }
+
+    /**
+     * @param replicas read replicas sharing the primary's database, credentials and properties (may be empty)
+     */
+    public DatabaseConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties,
+                          List<DatabaseEndpoint> replicas) {
         this.host = nullSafe(host);
         this.port = port;
         this.database = nullSafe(database);
@@ -25,6 +35,7 @@ public final class DatabaseConfig {
         this.password = password;
         this.poolSize = poolSize;
         this.properties = toUnmodifiableMap(properties);
+        this.replicas = replicas == null ? List.of() : List.copyOf(replicas);
     }
 
     public String host() {
@@ -55,6 +66,10 @@ public final class DatabaseConfig {
         return properties;
     }
 
+    public List<DatabaseEndpoint> replicas() {
+        return replicas;
+    }
+
     private static String nullSafe(String value) {
         return value == null ? "" : value;
     }
@@ -76,6 +91,7 @@ public final class DatabaseConfig {
                 ", password='" + (password == null || password.isEmpty() ? "" : "****") + '\'' +
                 ", poolSize=" + poolSize +
                 ", properties=" + properties +
+                ", replicas=" + replicas +
                 '}';
     }
 
@@ -83,11 +99,11 @@ public final class DatabaseConfig {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof DatabaseConfig that)) return false;
-        return port == that.port && poolSize == that.poolSize && Objects.equals(host, that.host) && Objects.equals(database, that.database) && Objects.equals(username, that.username) && Objects.equals(password, that.password) && Objects.equals(properties, that.properties);
+        return port == that.port && poolSize == that.poolSize && Objects.equals(host, that.host) && Objects.equals(database, that.database) && Objects.equals(username, that.username) && Objects.equals(password, that.password) && Objects.equals(properties, that.properties) && Objects.equals(replicas, that.replicas);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, port, database, username, password, poolSize, properties);
+        return Objects.hash(host, port, database, username, password, poolSize, properties, replicas);
     }
 }
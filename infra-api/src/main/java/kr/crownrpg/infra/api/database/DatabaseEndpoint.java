@@ -0,0 +1,21 @@
+package kr.crownrpg.infra.api.database;
+
+import kr.crownrpg.infra.api.Preconditions;
+
+/**
+ * Host and port of an additional database server, such as a read replica.
+ */
+public record DatabaseEndpoint(String host, int port) {
+
+    public DatabaseEndpoint {
+        host = Preconditions.checkNotBlank(host, "host").trim();
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("port must be between 1 and 65535: " + port);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+}
@@ -1,9 +1,20 @@
 package kr.crownrpg.infra.api.database;
 
 import kr.crownrpg.infra.api.lifecycle.ManagedLifecycle;
+import kr.crownrpg.infra.api.redis.TaskExecutor;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Provides transaction boundaries for database work.
+ * <p>
+ * {@link #execute(TransactionCallback)} runs on the caller's thread; the {@code *Async} variants run on a
+ * dedicated, bounded executor owned by the implementation and must be preferred on platform main threads.
  */
 public interface DatabaseService extends ManagedLifecycle {
 
@@ -11,6 +22,121 @@ public interface DatabaseService extends ManagedLifecycle {
 
     void executeVoid(TransactionVoidCallback callback);
 
+    /**
+     * Runs the transaction on the database executor.
+     * The future fails with {@link DatabaseException} when the service is unavailable or its queue is full.
+     */
+    <T> CompletableFuture<T> executeAsync(TransactionCallback<T> callback);
+
+    /**
+     * Runs a read-only transaction, which implementations may route to a read replica.
+     * Replicas can lag behind the primary; use {@link #executeReadOnly(String, TransactionCallback)}
+     * when the caller must observe its own recent writes.
+     */
+    default <T> T executeReadOnly(TransactionCallback<T> callback) {
+        return execute(callback);
+    }
+
+    /**
+     * Read-only transaction that stays on the primary while {@code sessionKey} is inside its
+     * read-your-writes window (see {@link #markWritten(String)}).
+     */
+    default <T> T executeReadOnly(String sessionKey, TransactionCallback<T> callback) {
+        return executeReadOnly(callback);
+    }
+
+    default <T> CompletableFuture<T> executeReadOnlyAsync(TransactionCallback<T> callback) {
+        return executeAsync(callback);
+    }
+
+    /**
+     * Runs a write transaction and opens the read-your-writes window for {@code sessionKey}.
+     */
+    default <T> T execute(String sessionKey, TransactionCallback<T> callback) {
+        T result = execute(callback);
+        markWritten(sessionKey);
+        return result;
+    }
+
+    /**
+     * Records that {@code sessionKey} (for example a player UUID) has just written, so its reads are
+     * pinned to the primary for a short window. No-op without replicas.
+     */
+    default void markWritten(String sessionKey) {
+    }
+
+    CompletableFuture<Void> executeVoidAsync(TransactionVoidCallback callback);
+
+    /**
+     * Runs the transaction and, when it is rolled back by a deadlock or lock wait timeout, runs it again
+     * from the start on a fresh transaction. The callback must therefore be idempotent apart from its
+     * database writes (no side effects outside the session). Implementations without a retry policy
+     * behave like {@link #execute(TransactionCallback)}.
+     */
+    default <T> T executeWithRetry(TransactionCallback<T> callback) {
+        return execute(callback);
+    }
+
+    /**
+     * Asynchronous variant of {@link #executeWithRetry(TransactionCallback)}; backoff waits happen on the
+     * database executor, never on the caller's thread.
+     */
+    default <T> CompletableFuture<T> executeWithRetryAsync(TransactionCallback<T> callback) {
+        return executeAsync(callback);
+    }
+
+    /**
+     * Loads rows into {@code table} in one transaction. Each row holds one value per entry of {@code columns}.
+     * Rows are pulled from the iterator as they are sent, so the source can be larger than memory.
+     * The default implementation uses batched INSERTs; MySQL implementations may stream through
+     * {@code LOAD DATA LOCAL INFILE} instead. Either way {@code table} and {@code columns} are validated and quoted
+     * with {@link SqlIdentifiers}.
+     *
+     * @return the number of rows loaded
+     * @throws IllegalArgumentException if {@code columns} is empty or a name is not a plain identifier
+     */
+    default long bulkImport(String table, List<String> columns, Iterator<Object[]> rows) {
+        Objects.requireNonNull(rows, "rows");
+        String sql = "INSERT INTO " + SqlIdentifiers.quoteTable(table) + " (" + SqlIdentifiers.quoteList(columns) + ") VALUES ("
+                + "?, ".repeat(columns.size() - 1) + "?)";
+        return execute(session -> (long) session.executeBatch(sql, rows, DbSession.DEFAULT_BATCH_SIZE).length);
+    }
+
+    /**
+     * Closes {@code rows} once the load finishes.
+     */
+    default long bulkImport(String table, List<String> columns, Stream<Object[]> rows) {
+        Objects.requireNonNull(rows, "rows");
+        try (rows) {
+            return bulkImport(table, columns, rows.iterator());
+        }
+    }
+
+    /**
+     * Streams the query result to {@code out} as tab-separated lines in the format {@code LOAD DATA} reads back
+     * ({@code \N} for NULL, backslash escapes). Rows are written as they arrive; {@code out} is not closed.
+     * Binary columns are written as raw escaped bytes and every other column as its UTF-8 string form.
+     *
+     * @return the number of rows written
+     */
+    long bulkExport(String sql, OutputStream out, Object... params);
+
+    /**
+     * Runs the transaction asynchronously and completes the returned future on {@code callbackExecutor}
+     * (typically the platform main thread), for both success and failure.
+     */
+    default <T> CompletableFuture<T> executeAsync(TransactionCallback<T> callback, TaskExecutor callbackExecutor) {
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor");
+        return executeAsync(callback).whenCompleteAsync((result, error) -> {
+        }, callbackExecutor::execute);
+    }
+
+    default CompletableFuture<Void> executeVoidAsync(TransactionVoidCallback callback, TaskExecutor callbackExecutor) {
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor");
+        return executeVoidAsync(callback).whenCompleteAsync((result, error) -> {
+        }, callbackExecutor::execute);
+    }
+
     boolean isStarted();
 
     DatabaseState state();
@@ -19,6 +145,14 @@ public interface DatabaseService extends ManagedLifecycle {
         return state() == DatabaseState.RUNNING;
     }
 
+    /**
+     * Whether the service is running and has finished any startup warm-up (for example pre-opening pool
+     * connections). Platforms should hold back player traffic until this returns {@code true}.
+     */
+    default boolean isReady() {
+        return isRunning();
+    }
+
     default boolean isDegraded() {
         return state() == DatabaseState.DEGRADED;
     }
@@ -1,16 +1,106 @@
 package kr.crownrpg.infra.api.database;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Abstract database session provided by implementations.
  */
 public interface DbSession {
 
+    /** Rows per {@code executeBatch} round trip when no chunk size is given. */
+    int DEFAULT_BATCH_SIZE = 500;
+
+    /** Fetch size that selects row-by-row streaming instead of a server-side cursor. */
+    int STREAM_ROW_BY_ROW = 0;
+
     int executeUpdate(String sql, Object... params);
 
+    /**
+     * Returns a view of this session whose statements are cancelled after {@code timeout}
+     * ({@link Duration#ZERO} disables the limit). The view shares this session's connection and transaction.
+     * Implementations without statement timeouts return {@code this}.
+     */
+    default DbSession withQueryTimeout(Duration timeout) {
+        return this;
+    }
+
+    /**
+     * Executes an update with typed parameters, binding primitives without boxing.
+     */
+    int executeUpdate(String sql, Params params);
+
     <T> List<T> query(String sql, RowMapper<T> mapper, Object... params);
 
     <T> Optional<T> queryOne(String sql, RowMapper<T> mapper, Object... params);
+
+    <T> List<T> query(String sql, RowMapper<T> mapper, Params params);
+
+    /**
+     * Maps each row to a record (by canonical constructor) or POJO (by no-arg constructor and fields).
+     * Columns are matched to component/field names case-insensitively, with {@code snake_case} labels matching
+     * {@code camelCase} names. The column binding is resolved once per SQL and type and then reused.
+     *
+     * @throws IllegalArgumentException if a record component has no matching column
+     */
+    <T> List<T> query(String sql, Class<T> type, Object... params);
+
+    default <T> Optional<T> queryOne(String sql, Class<T> type, Object... params) {
+        List<T> results = query(sql, type, params);
+        return results.isEmpty() ? Optional.empty() : Optional.ofNullable(results.get(0));
+    }
+
+    /**
+     * Streams mapped rows without materialising the result. Equivalent to
+     * {@code stream(sql, STREAM_ROW_BY_ROW, mapper, params)}.
+     */
+    default <T> Stream<T> stream(String sql, RowMapper<T> mapper, Object... params) {
+        return stream(sql, STREAM_ROW_BY_ROW, mapper, params);
+    }
+
+    /**
+     * Streams mapped rows with constant memory.
+     * <p>
+     * The stream holds an open statement and must be closed (try-with-resources) or fully consumed;
+     * any still-open stream is closed when the transaction ends. The {@link ResultRow} passed to
+     * {@code mapper} is only valid during the call.
+     *
+     * @param fetchSize rows fetched per server round trip using a server-side cursor, or
+     *                  {@link #STREAM_ROW_BY_ROW} to stream rows one at a time. While a row-by-row stream is open
+     *                  no other statement can run on this session.
+     */
+    <T> Stream<T> stream(String sql, int fetchSize, RowMapper<T> mapper, Object... params);
+
+    /**
+     * Invokes {@code action} for each row with constant memory. The row view is only valid during the callback.
+     */
+    default void forEach(String sql, Consumer<ResultRow> action, Object... params) {
+        forEach(sql, STREAM_ROW_BY_ROW, action, params);
+    }
+
+    default void forEach(String sql, int fetchSize, Consumer<ResultRow> action, Object... params) {
+        try (Stream<ResultRow> rows = stream(sql, fetchSize, row -> row, params)) {
+            rows.forEach(action);
+        }
+    }
+
+    /**
+     * Executes {@code sql} once per parameter row using JDBC batching, in chunks of {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @return update counts in row order; rewritten multi-row statements may report
+     * {@link java.sql.Statement#SUCCESS_NO_INFO} instead of per-row counts
+     */
+    default int[] executeBatch(String sql, List<Object[]> rows) {
+        return executeBatch(sql, rows.iterator(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Streaming variant that pulls rows lazily and flushes every {@code chunkSize} rows,
+     * so the full data set never needs to be materialised.
+     */
+    int[] executeBatch(String sql, Iterator<Object[]> rows, int chunkSize);
 }
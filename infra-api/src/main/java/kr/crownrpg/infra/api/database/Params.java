@@ -0,0 +1,169 @@
+package kr.crownrpg.infra.api.database;
+
+import java.util.Arrays;
+
+/**
+ * Typed, reusable statement parameter list.
+ * <p>
+ * Primitive values are stored unboxed and bound with the matching typed JDBC setter, and nulls keep their
+ * declared type so the server-side statement does not need to be re-prepared. Instances are not thread-safe;
+ * a hot path can keep one per thread and call {@link #clear()} between executions.
+ * <pre>{@code
+ * session.executeUpdate("UPDATE player_stats SET coins = ? WHERE player_id = ?",
+ *         Params.create().addLong(coins).addString(playerId.toString()));
+ * }</pre>
+ */
+public final class Params {
+
+    public enum Kind {INT, LONG, DOUBLE, BOOLEAN, STRING, OBJECT, NULL}
+
+    private Kind[] kinds;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] refs;
+    private int size;
+
+    private Params(int capacity) {
+        int initial = Math.max(1, capacity);
+        this.kinds = new Kind[initial];
+        this.longs = new long[initial];
+        this.doubles = new double[initial];
+        this.refs = new Object[initial];
+    }
+
+    public static Params create() {
+        return new Params(8);
+    }
+
+    public static Params create(int expectedSize) {
+        return new Params(expectedSize);
+    }
+
+    public Params addInt(int value) {
+        int index = next(Kind.INT);
+        longs[index] = value;
+        return this;
+    }
+
+    public Params addLong(long value) {
+        int index = next(Kind.LONG);
+        longs[index] = value;
+        return this;
+    }
+
+    public Params addDouble(double value) {
+        int index = next(Kind.DOUBLE);
+        doubles[index] = value;
+        return this;
+    }
+
+    public Params addBoolean(boolean value) {
+        int index = next(Kind.BOOLEAN);
+        longs[index] = value ? 1L : 0L;
+        return this;
+    }
+
+    /**
+     * Adds a string; {@code null} is bound as a typed VARCHAR null.
+     */
+    public Params addString(String value) {
+        if (value == null) {
+            return addNull(String.class);
+        }
+        int index = next(Kind.STRING);
+        refs[index] = value;
+        return this;
+    }
+
+    /**
+     * Adds any other value (temporal types, {@code byte[]}, {@code BigDecimal}, ...); {@code null} is bound untyped.
+     */
+    public Params add(Object value) {
+        if (value == null) {
+            return addNull(Object.class);
+        }
+        int index = next(Kind.OBJECT);
+        refs[index] = value;
+        return this;
+    }
+
+    /**
+     * Adds a null whose SQL type is derived from {@code type} (for example {@code Long.class} → BIGINT).
+     */
+    public Params addNull(Class<?> type) {
+        int index = next(Kind.NULL);
+        refs[index] = type == null ? Object.class : type;
+        return this;
+    }
+
+    /**
+     * Resets the list for reuse without releasing its storage.
+     */
+    public Params clear() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Kind kind(int index) {
+        checkIndex(index);
+        return kinds[index];
+    }
+
+    /** Value of an {@link Kind#INT}, {@link Kind#LONG} or {@link Kind#BOOLEAN} (1/0) slot. */
+    public long longAt(int index) {
+        checkIndex(index);
+        return longs[index];
+    }
+
+    public double doubleAt(int index) {
+        checkIndex(index);
+        return doubles[index];
+    }
+
+    /** Value of a {@link Kind#STRING} or {@link Kind#OBJECT} slot, or the declared type of a {@link Kind#NULL} slot. */
+    public Object refAt(int index) {
+        checkIndex(index);
+        return refs[index];
+    }
+
+    private int next(Kind kind) {
+        if (size == kinds.length) {
+            int capacity = kinds.length * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            refs = Arrays.copyOf(refs, capacity);
+        }
+        kinds[size] = kind;
+        return size++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Params[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            switch (kinds[i]) {
+                case INT, LONG -> builder.append(longs[i]);
+                case BOOLEAN -> builder.append(longs[i] != 0);
+                case DOUBLE -> builder.append(doubles[i]);
+                case NULL -> builder.append("null");
+                default -> builder.append(refs[i]);
+            }
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -1,10 +1,57 @@
 package kr.crownrpg.infra.api.database;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface QueryExecutor {
 
     int executeUpdate(String sql, Object... params);
 
+    /**
+     * @see DbSession#executeUpdate(String, Params)
+     */
+    int executeUpdate(String sql, Params params);
+
+    /**
+     * Returns all rows as an unmodifiable list backed by a columnar result table.
+     */
     List<Row> executeQuery(String sql, Object... params);
+
+    List<Row> executeQuery(String sql, Params params);
+
+    /**
+     * Maps each row to a record or POJO.
+     *
+     * @see DbSession#query(String, Class, Object...)
+     */
+    <T> List<T> executeQuery(String sql, Class<T> type, Object... params);
+
+    /**
+     * Streams rows with constant memory; the stream must be closed or fully consumed before the
+     * connection is used for another statement. Each {@link Row} is a view of the cursor and is only
+     * valid until the stream advances; use {@link #executeQuery(String, Object...)} for detached rows.
+     *
+     * @param fetchSize server-side cursor fetch size, or {@link DbSession#STREAM_ROW_BY_ROW}
+     * @see DbSession#stream(String, int, RowMapper, Object...)
+     */
+    Stream<Row> stream(String sql, int fetchSize, Object... params);
+
+    default void forEach(String sql, int fetchSize, Consumer<Row> action, Object... params) {
+        try (Stream<Row> rows = stream(sql, fetchSize, params)) {
+            rows.forEach(action);
+        }
+    }
+
+    /**
+     * Executes {@code sql} once per parameter row using JDBC batching.
+     *
+     * @see DbSession#executeBatch(String, List)
+     */
+    default int[] executeBatch(String sql, List<Object[]> rows) {
+        return executeBatch(sql, rows.iterator(), DbSession.DEFAULT_BATCH_SIZE);
+    }
+
+    int[] executeBatch(String sql, Iterator<Object[]> rows, int chunkSize);
 }
@@ -29,4 +29,22 @@ public interface ResultRow {
     Instant getInstant(String columnLabel);
 
     <T> Optional<T> getObject(String columnLabel, Class<T> type);
+
+    /**
+     * Resolves a column label to its 1-based index, or {@code -1} if absent.
+     * Resolve once per query and use the index accessors inside row loops.
+     */
+    int findColumn(String columnLabel);
+
+    String getString(int columnIndex);
+
+    Integer getInt(int columnIndex);
+
+    Long getLong(int columnIndex);
+
+    Double getDouble(int columnIndex);
+
+    Boolean getBoolean(int columnIndex);
+
+    <T> Optional<T> getObject(int columnIndex, Class<T> type);
 }
@@ -15,4 +15,22 @@ public interface Row {
     boolean getBoolean(String column);
 
     Optional<Object> get(String column);
+
+    /**
+     * Resolves a column label to its 1-based index, or {@code -1} if absent.
+     * Resolve once per query and use the index accessors inside row loops.
+     */
+    int findColumn(String column);
+
+    String getString(int columnIndex);
+
+    int getInt(int columnIndex);
+
+    long getLong(int columnIndex);
+
+    double getDouble(int columnIndex);
+
+    boolean getBoolean(int columnIndex);
+
+    Optional<Object> get(int columnIndex);
 }
@@ -0,0 +1,53 @@
+package kr.crownrpg.infra.api.database;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Validates caller-supplied table and column names and wraps them in backticks before they are concatenated into SQL.
+ * Only {@code [A-Za-z0-9_$]} is accepted, so a name can never close the quote or inject another clause.
+ */
+public final class SqlIdentifiers {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_$]+");
+
+    private SqlIdentifiers() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code identifier} is null, empty or contains other characters
+     */
+    public static String quote(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Invalid identifier: " + identifier);
+        }
+        return "`" + identifier + "`";
+    }
+
+    /**
+     * Quotes {@code table} or {@code schema.table}.
+     */
+    public static String quoteTable(String table) {
+        Objects.requireNonNull(table, "table");
+        int dot = table.indexOf('.');
+        return dot < 0 ? quote(table) : quote(table.substring(0, dot)) + "." + quote(table.substring(dot + 1));
+    }
+
+    /**
+     * Quotes each column and joins them with {@code ", "}.
+     */
+    public static String quoteList(List<String> columns) {
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("columns must not be empty");
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String column : columns) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(quote(column));
+        }
+        return builder.toString();
+    }
+}
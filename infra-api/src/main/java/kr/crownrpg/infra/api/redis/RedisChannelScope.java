@@ -8,13 +8,15 @@ package kr.crownrpg.infra.api.redis;
  *     <li>{@link #PROXY}: messages published by Paper nodes and consumed by the Velocity proxy.</li>
  *     <li>{@link #PAPER}: messages published by the Velocity proxy and consumed by Paper nodes.</li>
  *     <li>{@link #BROADCAST}: messages intended for all nodes regardless of role.</li>
+ *     <li>{@link #CACHE}: cache invalidation events exchanged by all nodes.</li>
  * </ul>
  */
 public enum RedisChannelScope {
 
     PROXY("proxy"),
     PAPER("paper"),
-    BROADCAST("broadcast");
+    BROADCAST("broadcast"),
+    CACHE("cache");
 
     private final String wireName;
 
@@ -8,8 +8,8 @@ import kr.crownrpg.infra.api.Preconditions;
  * Channel format: {@code crown:{environment}:{scope}} where:
  * <ul>
  *     <li>{@code environment}: the logical environment name (e.g., production, staging) that isolates traffic.</li>
- *     <li>{@code scope}: {@link RedisChannelScope#PROXY proxy}, {@link RedisChannelScope#PAPER paper}, or
- *     {@link RedisChannelScope#BROADCAST broadcast}.</li>
+ *     <li>{@code scope}: {@link RedisChannelScope#PROXY proxy}, {@link RedisChannelScope#PAPER paper},
+ *     {@link RedisChannelScope#BROADCAST broadcast}, or {@link RedisChannelScope#CACHE cache}.</li>
  * </ul>
  * <p>
  * Message flow rules (must be respected by implementations and consumers):
@@ -17,6 +17,7 @@ import kr.crownrpg.infra.api.Preconditions;
  *     <li>Paper → {@code crown:{env}:proxy}</li>
  *     <li>Velocity → {@code crown:{env}:paper}</li>
  *     <li>Broadcast to all nodes → {@code crown:{env}:broadcast}</li>
+ *     <li>Cache invalidation between all nodes → {@code crown:{env}:cache}</li>
  * </ul>
  */
 public final class RedisChannels {
@@ -38,6 +39,10 @@ public final class RedisChannels {
         return channel(environment, RedisChannelScope.BROADCAST);
     }
 
+    public static String forCache(String environment) {
+        return channel(environment, RedisChannelScope.CACHE);
+    }
+
     public static String channel(String environment, RedisChannelScope scope) {
         Preconditions.checkNotBlank(environment, "environment");
         Preconditions.checkNotNull(scope, "scope");
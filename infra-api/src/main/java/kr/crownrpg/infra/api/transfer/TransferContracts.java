@@ -12,7 +12,8 @@ import java.util.Set;
  * <ul>
  *     <li>All transfer messages must be sent via Netty-based {@code RealtimeChannel}; Redis is not used.</li>
  *     <li>Message types follow {@code player.transfer.{stage}} using constants in {@link TransferMessageTypes}.</li>
- *     <li>Payload is JSON string only; parsing occurs in downstream modules, not in infra-api.</li>
+ *     <li>Payload is a JSON string by default; parsing occurs in downstream modules, not in infra-api.
+ *     infra-core's {@code TransferCoordinator} instead exchanges the same fields with a binary codec.</li>
  *     <li>Every payload must include the identifiers defined in {@link TransferPayloadKeys}.</li>
  *     <li>State transitions are forward-only as described in {@link #isValidTransition(String, String)}.</li>
  * </ul>
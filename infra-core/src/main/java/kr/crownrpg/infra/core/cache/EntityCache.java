@@ -0,0 +1,387 @@
+package kr.crownrpg.infra.core.cache;
+
+import kr.crownrpg.infra.api.lifecycle.ManagedLifecycle;
+import kr.crownrpg.infra.api.message.InfraMessage;
+import kr.crownrpg.infra.api.message.MessageTypes;
+import kr.crownrpg.infra.api.redis.RedisBus;
+import kr.crownrpg.infra.api.redis.RedisChannels;
+import kr.crownrpg.infra.api.redis.RedisMessageHandler;
+import kr.crownrpg.infra.api.redis.RedisMessageRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 크기 제한과 TTL을 가진 read-through 엔티티 캐시.
+ * <p>
+ * 항목은 키 해시로 나눈 세그먼트마다 접근 순서 LRU로 관리된다. 같은 키에 대한 동시 미스는 로더를 한 번만
+ * 호출하고 나머지 호출자는 그 결과를 기다린다(single-flight). {@code null}을 반환한 로드는 캐시하지 않는다.
+ * <p>
+ * {@link RedisBus}를 주면 {@link #invalidate(Object)}가 {@link RedisChannels#forCache(String)} 채널로 무효화 이벤트를
+ * 발행하고, 다른 노드의 같은 이름 캐시가 해당 항목을 제거한다. 로드 도중 무효화된 키의 결과는 저장하지 않는다.
+ *
+ * @param <K> 엔티티 키
+ * @param <V> 캐시할 값. 공유되므로 불변 객체여야 한다
+ */
+public final class EntityCache<K, V> implements ManagedLifecycle {
+
+    static final String INVALIDATE_TYPE = MessageTypes.compose("cache", "invalidate");
+    static final String CLEAR_TYPE = MessageTypes.compose("cache", "clear");
+    static final String CACHE_HEADER = "cache";
+    private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class);
+
+    private final String name;
+    private final EntityCacheSettings settings;
+    private final Segment<K, V>[] segments;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final EntityCacheStats stats = new EntityCacheStats();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final RedisBus bus;
+    private final String environment;
+    private final String serverId;
+    private final Function<K, String> keyEncoder;
+    private final Function<String, K> keyDecoder;
+    /** 재시작해도 같은 인스턴스를 구독해 버스가 중복 등록으로 무시하게 한다. */
+    private final RedisMessageHandler invalidationHandler = this::onInvalidation;
+
+    /**
+     * 현재 노드에서만 동작하는 캐시를 만든다.
+     */
+    public EntityCache(String name, EntityCacheSettings settings) {
+        this(name, settings, null, null, null, null, null);
+    }
+
+    /**
+     * @param bus        무효화 이벤트를 주고받을 버스
+     * @param keyEncoder 키를 이벤트 페이로드 문자열로 변환한다
+     * @param keyDecoder {@code keyEncoder}의 역변환
+     */
+    public EntityCache(String name,
+                       EntityCacheSettings settings,
+                       RedisBus bus,
+                       String environment,
+                       String serverId,
+                       Function<K, String> keyEncoder,
+                       Function<String, K> keyDecoder) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.bus = bus;
+        if (bus != null) {
+            this.environment = Objects.requireNonNull(environment, "environment");
+            this.serverId = Objects.requireNonNull(serverId, "serverId");
+            this.keyEncoder = Objects.requireNonNull(keyEncoder, "keyEncoder");
+            this.keyDecoder = Objects.requireNonNull(keyDecoder, "keyDecoder");
+        } else {
+            this.environment = null;
+            this.serverId = null;
+            this.keyEncoder = null;
+            this.keyDecoder = null;
+        }
+        int segmentCount = settings.segments();
+        int perSegment = Math.max(1, (settings.maximumSize() + segmentCount - 1) / segmentCount);
+        @SuppressWarnings("unchecked")
+        Segment<K, V>[] created = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            created[i] = new Segment<>(perSegment, stats);
+        }
+        this.segments = created;
+    }
+
+    @Override
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        if (bus != null) {
+            bus.subscribe(RedisChannels.forCache(environment), invalidationHandler);
+        }
+    }
+
+    /**
+     * 로컬 항목을 비우고 무효화 이벤트 처리를 멈춘다.
+     * {@link RedisBus}에는 구독 해제가 없으므로 핸들러는 버스가 종료될 때까지 등록된 채로 남고, 받은 이벤트는 무시된다.
+     */
+    @Override
+    public void stop() {
+        if (!started.compareAndSet(true, false)) {
+            return;
+        }
+        clearLocal();
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 {@code loader}로 적재한다.
+     * 로더 예외는 그대로 전파되며 같은 키를 기다리던 다른 호출자에게도 전달된다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        V cached = lookup(key);
+        if (cached != null) {
+            stats.recordHit();
+            return cached;
+        }
+        stats.recordMiss();
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            stats.recordLoadFailure();
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+        complete(key, created, value);
+        return value;
+    }
+
+    /**
+     * {@link #get(Object, Function)}의 비동기 버전. {@code loader}는 보통 {@code DatabaseService#executeAsync} 결과를 반환한다.
+     */
+    public CompletableFuture<V> getAsync(K key, Function<? super K, CompletableFuture<V>> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        V cached = lookup(key);
+        if (cached != null) {
+            stats.recordHit();
+            return CompletableFuture.completedFuture(cached);
+        }
+        stats.recordMiss();
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.thenApply(Function.identity());
+        }
+        CompletableFuture<V> loading;
+        try {
+            loading = Objects.requireNonNull(loader.apply(key), "loader returned null future");
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, error) -> {
+            if (error != null) {
+                stats.recordLoadFailure();
+                inFlight.remove(key, created);
+                created.completeExceptionally(error);
+            } else {
+                complete(key, created, value);
+            }
+        });
+        return created.thenApply(Function.identity());
+    }
+
+    /**
+     * 적재 없이 캐시된 값만 조회한다. 없거나 만료되었으면 {@code null}.
+     */
+    public V getIfPresent(K key) {
+        V cached = lookup(Objects.requireNonNull(key, "key"));
+        if (cached != null) {
+            stats.recordHit();
+        } else {
+            stats.recordMiss();
+        }
+        return cached;
+    }
+
+    /**
+     * 현재 노드에만 값을 저장한다. 다른 노드의 사본은 {@link #invalidate(Object)}로 정리해야 한다.
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        inFlight.remove(key);
+        segmentFor(key).put(key, value, expiresAt());
+    }
+
+    /**
+     * 항목을 현재 노드에서 제거하고, 버스가 있으면 다른 노드에도 제거를 알린다. 데이터베이스 쓰기 직후 호출한다.
+     */
+    public void invalidate(K key) {
+        invalidateLocal(key);
+        if (bus != null) {
+            publish(INVALIDATE_TYPE, keyEncoder.apply(key));
+        }
+    }
+
+    /**
+     * 모든 노드에서 이 캐시의 항목을 비운다.
+     */
+    public void invalidateAll() {
+        clearLocal();
+        if (bus != null) {
+            publish(CLEAR_TYPE, "");
+        }
+    }
+
+    public void invalidateLocal(K key) {
+        Objects.requireNonNull(key, "key");
+        inFlight.remove(key);
+        segmentFor(key).remove(key);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public EntityCacheStats stats() {
+        return stats;
+    }
+
+    private V lookup(K key) {
+        return segmentFor(key).get(key, System.nanoTime());
+    }
+
+    private void complete(K key, CompletableFuture<V> created, V value) {
+        stats.recordLoad();
+        if (value != null) {
+            // 로드 중 무효화되었다면 inFlight에서 이미 빠져 있으므로 저장하지 않는다.
+            segmentFor(key).putIfLoading(key, value, expiresAt(), () -> inFlight.get(key) == created);
+        }
+        inFlight.remove(key, created);
+        created.complete(value);
+    }
+
+    private long expiresAt() {
+        long ttl = settings.expireAfterWrite().toNanos();
+        return ttl == 0 ? NEVER_EXPIRES : System.nanoTime() + ttl;
+    }
+
+    private void clearLocal() {
+        inFlight.clear();
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private void publish(String type, String payload) {
+        if (!bus.isRunning()) {
+            LOGGER.warn("Redis 버스가 {} 상태여서 캐시 '{}' 무효화를 다른 노드에 전파하지 못했습니다", bus.state(), name);
+            return;
+        }
+        try {
+            bus.publish(RedisChannels.forCache(environment),
+                    InfraMessage.text(environment, serverId, type, payload).withHeaders(Map.of(CACHE_HEADER, name)));
+        } catch (RuntimeException e) {
+            LOGGER.warn("캐시 '{}' 무효화 이벤트 발행 실패", name, e);
+        }
+    }
+
+    private void onInvalidation(String channel, InfraMessage message) {
+        if (!started.get() || !RedisMessageRules.shouldProcess(message, environment, serverId)) {
+            return;
+        }
+        if (!name.equals(message.meta().headers().get(CACHE_HEADER))) {
+            return;
+        }
+        if (CLEAR_TYPE.equals(message.type())) {
+            clearLocal();
+            stats.recordRemoteInvalidation();
+        } else if (INVALIDATE_TYPE.equals(message.type())) {
+            K key;
+            try {
+                key = keyDecoder.apply(message.payload());
+            } catch (RuntimeException e) {
+                LOGGER.warn("캐시 '{}' 무효화 키를 해석하지 못했습니다: {}", name, message.payload(), e);
+                return;
+            }
+            invalidateLocal(key);
+            stats.recordRemoteInvalidation();
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Segment<K, V> {
+
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        private Segment(int capacity, EntityCacheStats stats) {
+            this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        stats.recordEviction();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos != NEVER_EXPIRES && now - entry.expiresAtNanos >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(K key, V value, long expiresAtNanos) {
+            entries.put(key, new Entry<>(value, expiresAtNanos));
+        }
+
+        synchronized void putIfLoading(K key, V value, long expiresAtNanos, BooleanSupplier stillLoading) {
+            if (stillLoading.getAsBoolean()) {
+                entries.put(key, new Entry<>(value, expiresAtNanos));
+            }
+        }
+
+        synchronized void remove(K key) {
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
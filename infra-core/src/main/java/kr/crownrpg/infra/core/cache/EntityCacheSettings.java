@@ -0,0 +1,41 @@
+package kr.crownrpg.infra.core.cache;
+
+import java.time.Duration;
+
+/**
+ * {@link EntityCache}의 크기 한도와 만료 설정.
+ */
+public final class EntityCacheSettings {
+
+    private final int maximumSize;
+    private final Duration expireAfterWrite;
+    private final int segments;
+
+    /**
+     * @param maximumSize      보관할 최대 항목 수. 넘으면 가장 오래 사용되지 않은 항목부터 제거한다
+     * @param expireAfterWrite 적재 후 항목이 유효한 시간 (0이면 만료 없음)
+     * @param segments         잠금을 나누는 세그먼트 수. 2의 거듭제곱으로 올림한다
+     */
+    public EntityCacheSettings(int maximumSize, Duration expireAfterWrite, int segments) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.expireAfterWrite = expireAfterWrite == null || expireAfterWrite.isNegative() ? Duration.ZERO : expireAfterWrite;
+        int requested = Math.max(1, Math.min(segments, this.maximumSize));
+        this.segments = Integer.highestOneBit(requested) == requested ? requested : Integer.highestOneBit(requested) << 1;
+    }
+
+    public static EntityCacheSettings defaults() {
+        return new EntityCacheSettings(10_000, Duration.ofMinutes(5), 16);
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public Duration expireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public int segments() {
+        return segments;
+    }
+}
@@ -0,0 +1,79 @@
+package kr.crownrpg.infra.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link EntityCache}의 누적 적중/적재/무효화 통계.
+ */
+public final class EntityCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad() {
+        loads.increment();
+    }
+
+    void recordLoadFailure() {
+        loadFailures.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordRemoteInvalidation() {
+        remoteInvalidations.increment();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 실제로 로더를 호출한 횟수. 같은 키에 대한 동시 미스는 한 번만 센다.
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    public long loadFailures() {
+        return loadFailures.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long remoteInvalidations() {
+        return remoteInvalidations.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d loads=%d loadFailures=%d evictions=%d remoteInvalidations=%d hitRatio=%.2f",
+                hits(), misses(), loads(), loadFailures(), evictions(), remoteInvalidations(), hitRatio());
+    }
+}
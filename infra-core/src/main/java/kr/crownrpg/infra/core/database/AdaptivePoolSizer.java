@@ -0,0 +1,76 @@
+package kr.crownrpg.infra.core.database;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 측정한 커넥션 대기 시간으로 Hikari 최대 풀 크기를 조정한다. 헬스 체크 스레드에서만 호출된다.
+ * <p>
+ * 구간 p99 대기가 목표를 넘거나 대기 스레드가 있으면 25%(최소 1)씩 늘리고,
+ * 대기가 목표의 1/10 미만이고 사용률이 절반 미만인 상태가 연속 {@link #SHRINK_AFTER_TICKS}회 이어지면 1씩 줄인다.
+ * 늘릴 때는 빠르게, 줄일 때는 천천히 움직여 부하 변동에 흔들리지 않게 한다.
+ */
+final class AdaptivePoolSizer {
+
+    static final int SHRINK_AFTER_TICKS = 6;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final int min;
+    private final int max;
+    private final long targetWaitNanos;
+    private final LatencyHistogram window = new LatencyHistogram();
+    private int idleTicks;
+
+    AdaptivePoolSizer(DatabaseServiceSettings settings) {
+        this.min = settings.adaptivePoolMin();
+        this.max = settings.adaptivePoolMax();
+        this.targetWaitNanos = settings.targetAcquireWait().toNanos();
+    }
+
+    void recordAcquire(long waitNanos) {
+        window.record(waitNanos);
+    }
+
+    /**
+     * 풀 크기를 {@code [min, max]} 범위로 맞춘다. 시작 직후 한 번 호출한다.
+     */
+    int clamp(int configured) {
+        return Math.max(min, Math.min(max, configured));
+    }
+
+    void adjust(HikariConfigMXBean poolConfig, HikariPoolMXBean pool) {
+        long p99 = window.percentileNanos(0.99);
+        long samples = window.count();
+        window.reset();
+        int current = poolConfig.getMaximumPoolSize();
+        int pending = pool.getThreadsAwaitingConnection();
+        int active = pool.getActiveConnections();
+
+        if ((pending > 0 || (samples > 0 && p99 > targetWaitNanos)) && current < max) {
+            idleTicks = 0;
+            resize(poolConfig, current, Math.min(max, current + Math.max(1, current / 4)), p99, pending);
+            return;
+        }
+        if (pending == 0 && p99 < targetWaitNanos / 10 && active * 2 < current && current > min) {
+            if (++idleTicks >= SHRINK_AFTER_TICKS) {
+                idleTicks = 0;
+                resize(poolConfig, current, current - 1, p99, pending);
+            }
+            return;
+        }
+        idleTicks = 0;
+    }
+
+    private void resize(HikariConfigMXBean poolConfig, int current, int next, long p99Nanos, int pending) {
+        if (next < current) {
+            poolConfig.setMinimumIdle(Math.min(poolConfig.getMinimumIdle(), next));
+        }
+        poolConfig.setMaximumPoolSize(next);
+        LOGGER.info("DB 풀 크기를 {} → {}로 조정합니다 (획득 p99 {}ms, 대기 스레드 {})",
+                current, next, String.format("%.1f", p99Nanos / 1_000_000.0), pending);
+    }
+}
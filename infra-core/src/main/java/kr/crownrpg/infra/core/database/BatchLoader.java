@@ -0,0 +1,258 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.DatabaseService;
+import kr.crownrpg.infra.api.database.DbSession;
+import kr.crownrpg.infra.api.database.RowMapper;
+import kr.crownrpg.infra.api.lifecycle.ManagedLifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 동안 들어온 단건 조회를 모아 {@code WHERE id IN (...)} 쿼리 한 번으로 처리하는 로더.
+ * <p>
+ * {@link #load(Object)}는 즉시 future를 돌려주고, 모인 키는 {@link BatchLoaderSettings#maxDelay()}가 지나거나
+ * {@link BatchLoaderSettings#maxBatchSize()}에 도달하면 {@link DatabaseService#executeReadOnlyAsync} 한 번으로 조회된다.
+ * 대기 중이거나 조회 중인 키를 다시 요청하면 같은 future를 공유한다. 결과에 없는 키는 {@code null}로 완료된다.
+ *
+ * @param <K> 조회 키 (예: 파티원 ID)
+ * @param <V> 조회 결과
+ */
+public final class BatchLoader<K, V> implements ManagedLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchLoader.class);
+
+    private final String name;
+    private final DatabaseService databaseService;
+    private final BatchFetcher<K, V> fetcher;
+    private final BatchLoaderSettings settings;
+    private final Object lock = new Object();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedKeys = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    /**
+     * @param name    로그와 스레드 이름에 쓰는 식별자
+     * @param fetcher 키 목록을 한 번에 조회해 키별 결과를 돌려준다
+     */
+    public BatchLoader(String name, DatabaseService databaseService, BatchFetcher<K, V> fetcher, BatchLoaderSettings settings) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.databaseService = Objects.requireNonNull(databaseService, "databaseService");
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named("crown-batch-loader-" + name));
+    }
+
+    /**
+     * {@code selectPrefix + " IN (?, ...)"} 형태로 조회하는 로더를 만든다.
+     *
+     * @param selectPrefix 키 컬럼 조건 직전까지의 SQL (예: {@code SELECT * FROM party_member WHERE member_id})
+     * @param keyOf        조회된 행에서 키를 꺼낸다
+     */
+    public static <K, V> BatchLoader<K, V> byKeyColumn(String name, DatabaseService databaseService, String selectPrefix,
+                                                       RowMapper<V> mapper, Function<V, K> keyOf, BatchLoaderSettings settings) {
+        Objects.requireNonNull(selectPrefix, "selectPrefix");
+        Objects.requireNonNull(mapper, "mapper");
+        Objects.requireNonNull(keyOf, "keyOf");
+        return new BatchLoader<>(name, databaseService, (session, keys) -> {
+            String sql = selectPrefix + " IN (" + "?, ".repeat(keys.size() - 1) + "?)";
+            Map<K, V> results = new HashMap<>(keys.size() * 2);
+            for (V value : session.query(sql, mapper, keys.toArray())) {
+                results.put(keyOf.apply(value), value);
+            }
+            return results;
+        }, settings);
+    }
+
+    @Override
+    public void start() {
+        if (stopped.get()) {
+            throw new IllegalStateException("Batch loader has been stopped and cannot be restarted");
+        }
+        started.set(true);
+    }
+
+    /**
+     * 모여 있던 키를 즉시 조회하도록 넘긴 뒤 종료한다. 이후 {@link #load(Object)}는 실패한 future를 돌려준다.
+     */
+    @Override
+    public void stop() {
+        Map<K, CompletableFuture<V>> remaining;
+        synchronized (lock) {
+            // 락 안에서 종료를 표시해야 load()가 종료 이후 대기 목록에 키를 넣지 못한다.
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+            remaining = takePending();
+        }
+        dispatch(remaining);
+        scheduler.shutdownNow();
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key, "key");
+        if (!started.get() || stopped.get()) {
+            return CompletableFuture.failedFuture(new DatabaseException("Batch loader '" + name + "' is not running"));
+        }
+        requested.incrementAndGet();
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            if (stopped.get()) {
+                return CompletableFuture.failedFuture(new DatabaseException("Batch loader '" + name + "' is not running"));
+            }
+            future = pending.get(key);
+            if (future == null) {
+                future = inFlight.get(key);
+            }
+            if (future != null) {
+                deduplicated.incrementAndGet();
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= settings.maxBatchSize()) {
+                full = takePending();
+            } else if (pending.size() == 1 && !scheduleDispatch()) {
+                full = takePending();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * 여러 키를 요청하고 모두 끝나면 찾은 키의 결과만 담은 맵으로 완료한다.
+     */
+    public CompletableFuture<Map<K, V>> loadAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.computeIfAbsent(key, this::load);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<K, V> results = new LinkedHashMap<>();
+            futures.forEach((key, future) -> {
+                V value = future.join();
+                if (value != null) {
+                    results.put(key, value);
+                }
+            });
+            return results;
+        });
+    }
+
+    public long requestedCount() {
+        return requested.get();
+    }
+
+    /**
+     * 이미 대기 중이거나 조회 중인 키와 합쳐진 요청 수.
+     */
+    public long deduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    public long batchCount() {
+        return batches.get();
+    }
+
+    public double averageBatchSize() {
+        long count = batches.get();
+        return count == 0 ? 0.0 : (double) batchedKeys.get() / count;
+    }
+
+    /**
+     * @return 스케줄러가 예약을 거부했으면 {@code false}. 호출자는 대기 중인 키를 직접 넘겨야 한다.
+     */
+    private boolean scheduleDispatch() {
+        try {
+            scheduledDispatch = scheduler.schedule(this::dispatchPending, settings.maxDelay().toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("batch loader '{}' 지연 조회 예약 거부 - 대기 중인 키를 즉시 조회합니다", name, e);
+            scheduledDispatch = null;
+            return false;
+        }
+    }
+
+    private void dispatchPending() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        synchronized (lock) {
+            Map<K, CompletableFuture<V>> batch = pending;
+            pending = new LinkedHashMap<>();
+            if (scheduledDispatch != null) {
+                scheduledDispatch.cancel(false);
+                scheduledDispatch = null;
+            }
+            // 락 안에서 옮겨야 대기 목록과 조회 목록 사이에서 키가 보이지 않는 순간이 없다.
+            inFlight.putAll(batch);
+            return batch;
+        }
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(batch.keySet());
+        batches.incrementAndGet();
+        batchedKeys.addAndGet(keys.size());
+        CompletableFuture<Map<K, V>> result;
+        try {
+            result = databaseService.executeReadOnlyAsync(session -> fetcher.fetch(session, keys));
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((values, error) -> {
+            batch.forEach(inFlight::remove);
+            if (error != null) {
+                LOGGER.warn("batch loader '{}' 조회 실패 ({}개 키)", name, keys.size(), error);
+                batch.values().forEach(future -> future.completeExceptionally(error));
+                return;
+            }
+            batch.forEach((key, future) -> future.complete(values == null ? null : values.get(key)));
+        });
+    }
+
+    /**
+     * 키 목록을 한 트랜잭션(읽기 전용)에서 조회한다.
+     */
+    @FunctionalInterface
+    public interface BatchFetcher<K, V> {
+        Map<K, V> fetch(DbSession session, List<K> keys);
+    }
+}
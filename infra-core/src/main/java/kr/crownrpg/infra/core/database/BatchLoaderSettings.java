@@ -0,0 +1,33 @@
+package kr.crownrpg.infra.core.database;
+
+import java.time.Duration;
+
+/**
+ * {@link BatchLoader}가 키를 모으는 범위 설정.
+ */
+public final class BatchLoaderSettings {
+
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+
+    /**
+     * @param maxBatchSize 한 쿼리로 조회할 최대 키 수. 모인 키가 이 수에 도달하면 즉시 조회한다
+     * @param maxDelay     첫 키가 들어온 뒤 조회를 미루는 최대 시간
+     */
+    public BatchLoaderSettings(int maxBatchSize, Duration maxDelay) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelay = maxDelay == null || maxDelay.isNegative() ? Duration.ZERO : maxDelay;
+    }
+
+    public static BatchLoaderSettings defaults() {
+        return new BatchLoaderSettings(100, Duration.ofMillis(2));
+    }
+
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public Duration maxDelay() {
+        return maxDelay;
+    }
+}
@@ -0,0 +1,127 @@
+package kr.crownrpg.infra.core.database;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연결 장애용 서킷 브레이커.
+ * <p>
+ * CLOSED에서 연속 연결 실패가 임계값에 도달하면 OPEN으로 전환해 요청을 즉시 거부한다. OPEN 유지 시간이 지나면
+ * 첫 요청이 HALF_OPEN으로 전환하며 제한된 수의 시험 요청만 통과시킨다. 시험이 성공하면 CLOSED, 실패하면 다시 OPEN.
+ * 상태 전이는 CAS로만 이루어지므로 여러 스레드가 동시에 보고해도 전이는 한 번만 일어난다.
+ */
+final class CircuitBreaker {
+
+    enum State {CLOSED, OPEN, HALF_OPEN}
+
+    interface Listener {
+        void onStateChange(State from, State to);
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenTrials;
+    private final Listener listener;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger trialPermits = new AtomicInteger();
+    private final AtomicLong openedAtNanos = new AtomicLong();
+
+    CircuitBreaker(int failureThreshold, long openMillis, int halfOpenTrials, Listener listener) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openMillis));
+        this.halfOpenTrials = Math.max(1, halfOpenTrials);
+        this.listener = listener;
+    }
+
+    State state() {
+        return state.get();
+    }
+
+    /**
+     * 요청을 통과시킬지 결정한다. HALF_OPEN에서는 시험 허가를 소비한다.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            switch (current) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos.get() < openNanos) {
+                        return false;
+                    }
+                    trialPermits.set(halfOpenTrials);
+                    transition(State.OPEN, State.HALF_OPEN);
+                    continue;
+                case HALF_OPEN:
+                    return trialPermits.getAndDecrement() > 0;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * 허가 소비 없이 지금 요청이 즉시 거부될지 확인한다.
+     */
+    boolean isRejecting() {
+        State current = state.get();
+        if (current == State.OPEN) {
+            return System.nanoTime() - openedAtNanos.get() < openNanos;
+        }
+        return current == State.HALF_OPEN && trialPermits.get() <= 0;
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+        transition(State.HALF_OPEN, State.CLOSED);
+    }
+
+    /**
+     * @return 이번 보고로 OPEN으로 전환되었으면 {@code true}
+     */
+    boolean recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            return open(State.HALF_OPEN);
+        }
+        if (current == State.CLOSED && failures >= failureThreshold) {
+            return open(State.CLOSED);
+        }
+        return false;
+    }
+
+    /**
+     * 백그라운드 프로브가 연결을 확인했을 때 시험 요청 없이 닫는다.
+     */
+    void forceClose() {
+        consecutiveFailures.set(0);
+        State current = state.get();
+        if (current != State.CLOSED) {
+            transition(current, State.CLOSED);
+        }
+    }
+
+    int consecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    private boolean open(State from) {
+        openedAtNanos.set(System.nanoTime());
+        return transition(from, State.OPEN);
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        if (listener != null) {
+            listener.onStateChange(from, to);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,183 @@
+package kr.crownrpg.infra.core.database;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * {@link HikariDatabaseService} 실행 정책 (비동기 실행, statement 캐시, 레플리카 라우팅, 트랜잭션 재시도, 쿼리 제한 시간, 풀 예열).
+ */
+public final class DatabaseServiceSettings {
+
+    private final int asyncPoolSize;
+    private final int asyncQueueCapacity;
+    private final Duration admissionTimeout;
+    private final int statementCacheSize;
+    private final Duration readYourWritesWindow;
+    private final int adaptivePoolMin;
+    private final int adaptivePoolMax;
+    private final Duration targetAcquireWait;
+    private final TransactionRetryPolicy retryPolicy;
+    private final Duration queryTimeout;
+    private final Duration slowQueryThreshold;
+    private final int maxQueryFingerprints;
+    private final WarmUpSettings warmUp;
+
+    public DatabaseServiceSettings(int asyncPoolSize, int asyncQueueCapacity, Duration admissionTimeout) {
+        this(asyncPoolSize, asyncQueueCapacity, admissionTimeout, JdbcDbSession.DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * @param asyncPoolSize      비동기 실행 스레드 수 (커넥션 풀 크기를 넘으면 풀 크기로 제한된다)
+     * @param asyncQueueCapacity 실행 대기 가능한 작업 수. 초과하면 요청을 거부한다
+     * @param admissionTimeout   대기열이 가득 찼을 때 자리를 기다리는 최대 시간 (0이면 즉시 실패)
+     * @param statementCacheSize 트랜잭션 세션마다 캐시할 PreparedStatement 수
+     */
+    public DatabaseServiceSettings(int asyncPoolSize, int asyncQueueCapacity, Duration admissionTimeout, int statementCacheSize) {
+        this(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, Duration.ofSeconds(2));
+    }
+
+    /**
+     * @param readYourWritesWindow 쓰기 후 같은 세션 키의 읽기를 프라이머리에 고정하는 시간 (0이면 비활성)
+     */
+    public DatabaseServiceSettings(int asyncPoolSize, int asyncQueueCapacity, Duration admissionTimeout, int statementCacheSize,
+                                   Duration readYourWritesWindow) {
+        this(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow, 0, 0, Duration.ofMillis(50),
+                TransactionRetryPolicy.defaults(), Duration.ZERO, Duration.ofMillis(200), 512, WarmUpSettings.defaults());
+    }
+
+    private DatabaseServiceSettings(int asyncPoolSize, int asyncQueueCapacity, Duration admissionTimeout, int statementCacheSize,
+                                    Duration readYourWritesWindow, int adaptivePoolMin, int adaptivePoolMax, Duration targetAcquireWait,
+                                    TransactionRetryPolicy retryPolicy, Duration queryTimeout, Duration slowQueryThreshold,
+                                    int maxQueryFingerprints, WarmUpSettings warmUp) {
+        this.asyncPoolSize = Math.max(1, asyncPoolSize);
+        this.asyncQueueCapacity = Math.max(0, asyncQueueCapacity);
+        this.admissionTimeout = admissionTimeout == null || admissionTimeout.isNegative() ? Duration.ZERO : admissionTimeout;
+        this.statementCacheSize = Math.max(1, statementCacheSize);
+        this.readYourWritesWindow = readYourWritesWindow == null || readYourWritesWindow.isNegative() ? Duration.ZERO : readYourWritesWindow;
+        this.adaptivePoolMin = Math.max(0, adaptivePoolMin);
+        this.adaptivePoolMax = Math.max(this.adaptivePoolMin, adaptivePoolMax);
+        this.targetAcquireWait = targetAcquireWait == null || targetAcquireWait.isNegative() || targetAcquireWait.isZero()
+                ? Duration.ofMillis(50) : targetAcquireWait;
+        this.retryPolicy = retryPolicy == null ? TransactionRetryPolicy.none() : retryPolicy;
+        this.queryTimeout = queryTimeout == null || queryTimeout.isNegative() ? Duration.ZERO : queryTimeout;
+        this.slowQueryThreshold = slowQueryThreshold == null || slowQueryThreshold.isNegative() ? Duration.ZERO : slowQueryThreshold;
+        this.maxQueryFingerprints = Math.max(1, maxQueryFingerprints);
+        this.warmUp = warmUp == null ? WarmUpSettings.disabled() : warmUp;
+    }
+
+    public static DatabaseServiceSettings defaults() {
+        return new DatabaseServiceSettings(4, 256, Duration.ZERO);
+    }
+
+    public DatabaseServiceSettings withReadYourWritesWindow(Duration window) {
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, window,
+                adaptivePoolMin, adaptivePoolMax, targetAcquireWait, retryPolicy,
+                queryTimeout, slowQueryThreshold, maxQueryFingerprints, warmUp);
+    }
+
+    /**
+     * 커넥션 대기 시간에 따라 풀 크기를 {@code [min, max]} 안에서 자동 조정한다.
+     *
+     * @param targetAcquireWait 이보다 p99 획득 대기가 길면 풀을 키우고, 크게 밑돌면 줄인다
+     */
+    public DatabaseServiceSettings withAdaptivePoolSizing(int min, int max, Duration targetAcquireWait) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("adaptive pool bounds must satisfy 1 <= min <= max: " + min + ".." + max);
+        }
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow,
+                min, max, targetAcquireWait, retryPolicy, queryTimeout, slowQueryThreshold, maxQueryFingerprints, warmUp);
+    }
+
+    /**
+     * {@link HikariDatabaseService#executeWithRetry(kr.crownrpg.infra.api.database.TransactionCallback)}가
+     * 데드락·잠금 대기 초과를 재시도하는 정책. 기본값은 {@link TransactionRetryPolicy#defaults()}.
+     */
+    public DatabaseServiceSettings withTransactionRetry(TransactionRetryPolicy policy) {
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow,
+                adaptivePoolMin, adaptivePoolMax, targetAcquireWait, Objects.requireNonNull(policy, "policy"),
+                queryTimeout, slowQueryThreshold, maxQueryFingerprints, warmUp);
+    }
+
+    /**
+     * 트랜잭션 세션의 문장별 기본 제한 시간. 호출 단위로는
+     * {@link kr.crownrpg.infra.api.database.DbSession#withQueryTimeout(Duration)}로 바꾼다. 0이면 제한 없음(기본값).
+     */
+    public DatabaseServiceSettings withQueryTimeout(Duration timeout) {
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow,
+                adaptivePoolMin, adaptivePoolMax, targetAcquireWait, retryPolicy, timeout, slowQueryThreshold, maxQueryFingerprints, warmUp);
+    }
+
+    /**
+     * 시작과 풀 재생성 시 커넥션을 미리 열고 hot statement를 prepare한다. 기본값은 {@link WarmUpSettings#defaults()}.
+     */
+    public DatabaseServiceSettings withWarmUp(WarmUpSettings warmUp) {
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow,
+                adaptivePoolMin, adaptivePoolMax, targetAcquireWait, retryPolicy, queryTimeout, slowQueryThreshold, maxQueryFingerprints,
+                Objects.requireNonNull(warmUp, "warmUp"));
+    }
+
+    /**
+     * @param threshold       이 시간 이상 걸린 문장을 느린 쿼리로 기록한다 (기본 200ms, 0이면 경고 비활성)
+     * @param maxFingerprints 따로 집계할 SQL 지문 수 (기본 512)
+     */
+    public DatabaseServiceSettings withSlowQueryCapture(Duration threshold, int maxFingerprints) {
+        return new DatabaseServiceSettings(asyncPoolSize, asyncQueueCapacity, admissionTimeout, statementCacheSize, readYourWritesWindow,
+                adaptivePoolMin, adaptivePoolMax, targetAcquireWait, retryPolicy, queryTimeout, threshold, maxFingerprints, warmUp);
+    }
+
+    public int asyncPoolSize() {
+        return asyncPoolSize;
+    }
+
+    public int asyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public Duration admissionTimeout() {
+        return admissionTimeout;
+    }
+
+    public int statementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public Duration readYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public boolean adaptivePoolSizing() {
+        return adaptivePoolMax > 0;
+    }
+
+    public int adaptivePoolMin() {
+        return adaptivePoolMin;
+    }
+
+    public int adaptivePoolMax() {
+        return adaptivePoolMax;
+    }
+
+    public Duration targetAcquireWait() {
+        return targetAcquireWait;
+    }
+
+    public TransactionRetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
+    public Duration queryTimeout() {
+        return queryTimeout;
+    }
+
+    public Duration slowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public int maxQueryFingerprints() {
+        return maxQueryFingerprints;
+    }
+
+    public WarmUpSettings warmUp() {
+        return warmUp;
+    }
+}
@@ -25,7 +25,11 @@ import java.util.Objects;
  * - use-ssl (boolean) [default false]
  * - server-timezone (String) [default "UTC"]
  * - character-encoding (String) [default "utf8"]
+ *
+ * @deprecated 별도의 {@code Crown-Hikari} 풀을 만든다. 노드당 풀을 하나로 유지하려면
+ * {@link HikariDatabaseService#asDatabaseClient()} 또는 {@link HikariDatabaseProvider}를 사용한다.
  */
+@Deprecated
 public final class HikariConnectionProvider implements ConnectionProvider {
 
     private final HikariDataSource dataSource;
@@ -63,10 +67,7 @@ public final class HikariConnectionProvider implements ConnectionProvider {
         hc.setConnectionTimeout(connTimeout);
 
         // MySQL 8 권장
-        hc.addDataSourceProperty("cachePrepStmts", "true");
-        hc.addDataSourceProperty("prepStmtCacheSize", "250");
-        hc.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        hc.addDataSourceProperty("useServerPrepStmts", "true");
+        MySqlDataSourceProperties.apply(hc);
 
         // 안전
         hc.setPoolName("Crown-Hikari");
@@ -1,87 +1,123 @@
 package kr.crownrpg.infra.core.database;
 
-import kr.crownrpg.infra.api.database.ConnectionProvider;
 import kr.crownrpg.infra.api.database.DatabaseClient;
+import kr.crownrpg.infra.api.database.DatabaseConfig;
 import kr.crownrpg.infra.api.database.DatabaseException;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ExecutorService;
 
 /**
  * infra-paper/infra-velocity 바인더에서 호출하는 "DB 초기화/종료" 유틸.
  *
- * - initialize(configMap) 한 번 호출
+ * - initialize(service) 로 이미 등록된 {@link HikariDatabaseService}의 풀을 공유 (권장)
+ * - initialize(configMap) 은 이 provider가 소유하는 서비스를 새로 만든다
  * - getDatabaseClient() 로 계약(DatabaseClient) 반환
- * - shutdown() 으로 종료
+ * - shutdown() 으로 종료 (공유한 서비스는 종료하지 않는다)
+ *
+ * 어느 쪽이든 DatabaseClient는 {@link HikariDatabaseService#asDatabaseClient()} 뷰이므로,
+ * 풀 크기·메트릭·헬스 체크·실행기가 DatabaseService와 한 곳에서 관리된다.
  */
 public final class HikariDatabaseProvider {
 
-    private volatile ConnectionProvider connectionProvider;
-    private volatile ExecutorService executor;
-    private volatile DatabaseClient databaseClient;
+    private volatile HikariDatabaseService service;
+    private volatile boolean ownsService;
+
+    /**
+     * 이미 시작된 서비스의 풀과 실행기를 공유한다. 노드당 MySQL 풀이 하나로 유지된다.
+     */
+    public synchronized void initialize(HikariDatabaseService shared) {
+        Objects.requireNonNull(shared, "shared");
+        ensureNotInitialized();
+        this.service = shared;
+        this.ownsService = false;
+    }
 
-    public void initialize(Map<String, Object> config) {
+    public synchronized void initialize(Map<String, Object> config) {
         Objects.requireNonNull(config, "config");
+        ensureNotInitialized();
 
-        if (databaseClient != null) {
-            throw new IllegalStateException("Database already initialized");
-        }
-
-        // Hikari DataSource 구성
-        HikariConnectionProvider provider = HikariConnectionProvider.fromConfig(config);
-
-        // DB 작업 전용 스레드풀
+        // DB 작업 전용 스레드 수
         int poolThreads = intOrDefault(config.get("pool-threads"), 4);
-        ExecutorService exec = ThreadFactories.fixed(poolThreads, "CrownDB");
+        DatabaseServiceSettings settings = new DatabaseServiceSettings(poolThreads, DatabaseServiceSettings.defaults().asyncQueueCapacity(), Duration.ZERO);
 
-        this.connectionProvider = provider;
-        this.executor = exec;
-        this.databaseClient = new JdbcDatabaseClient(provider, exec);
+        HikariDatabaseService created = new HikariDatabaseService(toDatabaseConfig(config), settings);
+        created.start();
+        this.service = created;
+        this.ownsService = true;
     }
 
     public DatabaseClient getDatabaseClient() {
-        if (databaseClient == null) {
+        HikariDatabaseService current = service;
+        if (current == null) {
             throw new IllegalStateException("Database not initialized yet");
         }
-        return databaseClient;
+        return current.asDatabaseClient();
     }
 
-    public void shutdown() {
-        // DatabaseClient.close() -> provider/exec 정리까지 같이 처리해도 되지만
-        // 여기서는 명확히 provider/exec를 안전하게 정리한다.
-        DatabaseClient client = this.databaseClient;
-        this.databaseClient = null;
-
-        ConnectionProvider provider = this.connectionProvider;
-        this.connectionProvider = null;
-
-        ExecutorService exec = this.executor;
-        this.executor = null;
+    public synchronized void shutdown() {
+        HikariDatabaseService current = this.service;
+        this.service = null;
 
         try {
-            if (client != null) {
-                client.close();
+            if (current != null && ownsService) {
+                current.stop();
             }
         } catch (Throwable t) {
             // 무시
         }
+    }
 
-        try {
-            if (provider != null) {
-                provider.close();
-            }
-        } catch (Throwable t) {
-            // 무시
+    private void ensureNotInitialized() {
+        if (service != null) {
+            throw new IllegalStateException("Database already initialized");
         }
+    }
 
-        try {
-            if (exec != null) {
-                exec.shutdownNow();
-            }
-        } catch (Throwable t) {
-            // 무시
+    /**
+     * config Map을 {@link HikariDatabaseService}용 {@link DatabaseConfig}로 변환한다.
+     * URL 옵션(use-ssl, server-timezone, character-encoding)은 드라이버 properties로 옮긴다.
+     * min-idle, connection-timeout-ms는 서비스 풀 정책을 따르므로 사용하지 않는다.
+     */
+    static DatabaseConfig toDatabaseConfig(Map<String, Object> config) {
+        Objects.requireNonNull(config, "config");
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("useSSL", String.valueOf(boolOrDefault(config.get("use-ssl"), false)));
+        properties.put("serverTimezone", strOrDefault(config.get("server-timezone"), "UTC"));
+        properties.put("characterEncoding", strOrDefault(config.get("character-encoding"), "utf8"));
+        properties.put("useUnicode", "true");
+        properties.put("allowPublicKeyRetrieval", "true");
+
+        return new DatabaseConfig(
+                strOrDefault(config.get("host"), "127.0.0.1"),
+                intOrDefault(config.get("port"), 3306),
+                requireStr(config.get("database"), "database"),
+                requireStr(config.get("username"), "username"),
+                strOrDefault(config.get("password"), ""),
+                intOrDefault(config.get("max-pool-size"), 10),
+                properties);
+    }
+
+    private static String requireStr(Object v, String key) {
+        String s = strOrDefault(v, null);
+        if (s == null || s.isBlank()) {
+            throw new DatabaseException("Missing required database config: " + key);
         }
+        return s;
+    }
+
+    private static String strOrDefault(Object v, String def) {
+        if (v == null) return def;
+        return String.valueOf(v);
+    }
+
+    private static boolean boolOrDefault(Object v, boolean def) {
+        if (v == null) return def;
+        if (v instanceof Boolean b) return b;
+        return Boolean.parseBoolean(String.valueOf(v));
     }
 
     private static int intOrDefault(Object v, int def) {
@@ -2,31 +2,70 @@ package kr.crownrpg.infra.core.database;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import kr.crownrpg.infra.api.database.DatabaseClient;
 import kr.crownrpg.infra.api.database.DatabaseConfig;
 import kr.crownrpg.infra.api.database.DatabaseException;
 import kr.crownrpg.infra.api.database.DatabaseService;
 import kr.crownrpg.infra.api.database.DatabaseState;
-import kr.crownrpg.infra.api.database.DbSession;
 import kr.crownrpg.infra.api.database.TransactionCallback;
 import kr.crownrpg.infra.api.database.TransactionVoidCallback;
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * MySQL DatabaseService implementation backed by HikariCP and JDBC.
+ * <p>
+ * Async calls run on a dedicated executor whose in-flight work (running + queued) is capped by a semaphore,
+ * so a stalled database fails callers fast instead of growing an unbounded queue on the main thread's behalf.
+ * <p>
+ * When {@link DatabaseConfig#replicas()} is set, read-only transactions go to the replica with the fewest
+ * in-flight requests. Writes and reads inside a session's read-your-writes window stay on the primary, and a
+ * replica whose connection fails is skipped (falling back to the primary) until the health loop revalidates it.
+ * <p>
+ * Primary pool state is exposed through {@link #poolMetrics()}. With
+ * {@link DatabaseServiceSettings#withAdaptivePoolSizing(int, int, java.time.Duration) adaptive sizing} the health
+ * loop also resizes the pool within the configured bounds based on measured connection wait times.
+ * <p>
+ * Only connection-level failures count toward the circuit breaker; query errors do not degrade the service.
+ * After the breaker opens, requests fail fast until either a half-open trial request or the background probe
+ * succeeds. The pool is soft-evicted rather than rebuilt, so recovery does not reject traffic for a full restart.
+ * <p>
+ * {@link #executeWithRetry(TransactionCallback)} re-runs transactions rolled back by deadlocks or lock wait timeouts
+ * with jittered backoff, per {@link DatabaseServiceSettings#retryPolicy()}; attempts that are retried do not count as
+ * failures, and {@link #transactionRetryStats()} reports retries per cause.
+ * <p>
+ * {@link #start()} warms the primary pool before reporting RUNNING: it opens the configured number of connections in
+ * parallel, validates them and prepares {@link WarmUpSettings#hotStatements() hot statements} on each, so the first
+ * burst of traffic does not pay connection setup. {@link #isReady()} turns true once that has finished.
+ * <p>
+ * {@link #asDatabaseClient()} exposes the same pool, executor, metrics and health state through the
+ * {@link DatabaseClient} contract, so a node needs only one MySQL pool for both APIs.
  */
 public class HikariDatabaseService implements DatabaseService {
 
@@ -34,18 +73,53 @@ public class HikariDatabaseService implements DatabaseService {
     private static final long CONNECTION_WAIT_WARN_MS = 1000;
     private static final long TRANSACTION_WARN_MS = 2000;
     private static final int FAILURE_THRESHOLD = 3;
+    private static final long CIRCUIT_OPEN_MS = 5000;
+    private static final int HALF_OPEN_TRIALS = 1;
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
 
     private final DatabaseConfig config;
     private final AtomicBoolean started = new AtomicBoolean(false);
     private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final AtomicBoolean closing = new AtomicBoolean(false);
     private final AtomicReference<DatabaseState> state = new AtomicReference<>(DatabaseState.STOPPED);
-    private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(FAILURE_THRESHOLD, CIRCUIT_OPEN_MS, HALF_OPEN_TRIALS, this::onCircuitStateChange);
     private final ScheduledExecutorService healthChecker;
     private final AtomicBoolean recoveryLoopStarted = new AtomicBoolean(false);
-    private HikariDataSource dataSource;
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private volatile WarmUpReport lastWarmUp;
+    private final DatabaseServiceSettings settings;
+    private final ThreadPoolExecutor asyncExecutor;
+    private final Semaphore asyncAdmission;
+    private final AtomicLong asyncRejected = new AtomicLong();
+    private final LatencyHistogram asyncQueueWait = new LatencyHistogram();
+    private final LatencyHistogram asyncExecution = new LatencyHistogram();
+    private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+    private final TransactionRetryStats retryStats = new TransactionRetryStats();
+    private final SlowQueryRecorder slowQueries;
+    private final LatencyHistogram connectionAcquire = new LatencyHistogram();
+    private final LatencyHistogram connectionUsage = new LatencyHistogram();
+    private final AtomicLong connectionTimeouts = new AtomicLong();
+    private final AdaptivePoolSizer poolSizer;
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+    private final AtomicLong replicaFallbacks = new AtomicLong();
+    private volatile HikariDataSource dataSource;
+    private volatile ReplicaRouter replicaRouter;
+    /** 생성 중 {@code this}가 새지 않도록 처음 요청될 때 만든다. */
+    private volatile DatabaseClient databaseClient;
 
     public HikariDatabaseService(DatabaseConfig config) {
+        this(config, DatabaseServiceSettings.defaults());
+    }
+
+    public HikariDatabaseService(DatabaseConfig config, DatabaseServiceSettings settings) {
         this.config = Objects.requireNonNull(config, "config");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        int asyncThreads = Math.min(settings.asyncPoolSize(), Math.max(1, config.poolSize()));
+        this.asyncExecutor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), ThreadFactories.named("crown-db-async"));
+        this.asyncAdmission = new Semaphore(asyncThreads + settings.asyncQueueCapacity());
+        this.slowQueries = new SlowQueryRecorder(settings.slowQueryThreshold(), settings.maxQueryFingerprints());
+        this.poolSizer = settings.adaptivePoolSizing() ? new AdaptivePoolSizer(settings) : null;
         this.healthChecker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
             @Override
             public Thread newThread(Runnable r) {
@@ -59,28 +133,122 @@ public class HikariDatabaseService implements DatabaseService {
 
     @Override
     public <T> T execute(TransactionCallback<T> callback) {
+        return runTransaction(callback, true);
+    }
+
+    /**
+     * 데드락·잠금 대기 초과로 롤백되면 {@link DatabaseServiceSettings#retryPolicy()}에 따라 새 트랜잭션으로 다시 실행한다.
+     * 재시도 끝에 커밋된 트랜잭션은 실패로 기록하지 않는다.
+     */
+    @Override
+    public <T> T executeWithRetry(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        TransactionRetryPolicy policy = settings.retryPolicy();
+        TransactionRetryStats.Cause lastCause = null;
+        long backoffNanos = 0L;
+        for (int attempt = 1; ; attempt++) {
+            boolean finalAttempt = attempt >= policy.maxAttempts();
+            try {
+                T result = runTransaction(callback, finalAttempt);
+                if (lastCause != null) {
+                    retryStats.recordRecovered(lastCause);
+                }
+                return result;
+            } catch (RetryableTransactionException e) {
+                lastCause = e.retryCause;
+                retryStats.recordRetry(e.retryCause);
+                backoffNanos = policy.nextBackoffNanos(backoffNanos);
+                LOGGER.debug("트랜잭션 재시도 {}/{} ({}, {}ms 후)", attempt + 1, policy.maxAttempts(), e.retryCause,
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                sleepBackoff(backoffNanos, e);
+            } catch (DatabaseException e) {
+                TransactionRetryStats.Cause cause = SqlFailures.retryableCause(e);
+                if (cause != null && finalAttempt && policy.maxAttempts() > 1) {
+                    retryStats.recordExhausted(cause);
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetryAsync(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        return submitAsync(() -> executeWithRetry(callback));
+    }
+
+    /**
+     * {@code LOAD DATA LOCAL INFILE}로 행을 스트리밍 적재하고 한 트랜잭션으로 커밋한다. 서버가 {@code local_infile}을
+     * 허용하지 않으면 배치 INSERT로 대신 적재한다.
+     */
+    @Override
+    public long bulkImport(String table, List<String> columns, Iterator<Object[]> rows) {
+        Objects.requireNonNull(rows, "rows");
+        long start = System.nanoTime();
+        long loaded = withConnection(connection -> {
+            long count = MySqlBulkTransfer.load(connection, table, columns, rows);
+            connection.commit();
+            return count;
+        });
+        LOGGER.info("{} 대량 적재 완료 - {}행, {}ms", table, loaded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return loaded;
+    }
+
+    @Override
+    public long bulkExport(String sql, OutputStream out, Object... params) {
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(out, "out");
+        return withConnection(connection -> {
+            long count = MySqlBulkTransfer.export(connection, sql, params, out);
+            connection.commit();
+            return count;
+        });
+    }
+
+    /**
+     * 데드락·잠금 대기 초과 원인별 재시도/복구/소진 횟수.
+     */
+    public TransactionRetryStats transactionRetryStats() {
+        return retryStats;
+    }
+
+    /**
+     * @param finalAttempt {@code false}면 재시도 가능한 실패를 장애로 기록하지 않고 {@link RetryableTransactionException}으로 알린다
+     */
+    private <T> T runTransaction(TransactionCallback<T> callback, boolean finalAttempt) {
         ensureAvailable();
         Objects.requireNonNull(callback, "callback");
         long waitStart = System.nanoTime();
         try (Connection connection = dataSource.getConnection()) {
-            long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart);
-            logConnectionWait(waitMs);
+            long acquiredAt = System.nanoTime();
+            recordAcquire(acquiredAt - waitStart);
             connection.setAutoCommit(false);
-            DbSession session = new JdbcDbSession(connection);
+            JdbcDbSession session = openSession(connection);
             try {
                 long txStart = System.nanoTime();
                 T result = callback.doInTransaction(session);
+                session.close();
                 connection.commit();
                 logTransactionDuration(txStart);
-                consecutiveFailures.set(0);
+                circuitBreaker.recordSuccess();
                 return result;
             } catch (Exception e) {
+                session.close();
                 rollbackQuietly(connection);
-                markFailure("트랜잭션 실패", e);
+                TransactionRetryStats.Cause retryable = finalAttempt ? null : SqlFailures.retryableCause(e);
+                if (retryable != null) {
+                    // 데이터베이스는 정상 응답했으므로 서킷에는 성공으로 남기고 호출자에게 재시도를 맡긴다.
+                    circuitBreaker.recordSuccess();
+                    throw new RetryableTransactionException(retryable, e);
+                }
+                recordFailure("트랜잭션 실패", e);
                 throw new DatabaseException("Transaction failed", e);
+            } finally {
+                connectionUsage.recordSince(acquiredAt);
             }
         } catch (SQLException e) {
-            markFailure("커넥션 획득 실패", e);
+            recordAcquireFailure(e);
+            recordFailure("커넥션 획득 실패", e);
             throw new DatabaseException("Failed to obtain connection", e);
         }
     }
@@ -91,32 +259,249 @@ public class HikariDatabaseService implements DatabaseService {
         Objects.requireNonNull(callback, "callback");
         long waitStart = System.nanoTime();
         try (Connection connection = dataSource.getConnection()) {
-            long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart);
-            logConnectionWait(waitMs);
+            long acquiredAt = System.nanoTime();
+            recordAcquire(acquiredAt - waitStart);
             connection.setAutoCommit(false);
-            DbSession session = new JdbcDbSession(connection);
+            JdbcDbSession session = openSession(connection);
             try {
                 long txStart = System.nanoTime();
                 callback.doInTransaction(session);
+                session.close();
                 connection.commit();
                 logTransactionDuration(txStart);
-                consecutiveFailures.set(0);
+                circuitBreaker.recordSuccess();
             } catch (Exception e) {
+                session.close();
                 rollbackQuietly(connection);
-                markFailure("트랜잭션 실패", e);
+                recordFailure("트랜잭션 실패", e);
                 throw new DatabaseException("Transaction failed", e);
+            } finally {
+                connectionUsage.recordSince(acquiredAt);
+            }
+        } catch (SQLException e) {
+            recordAcquireFailure(e);
+            recordFailure("커넥션 획득 실패", e);
+            throw new DatabaseException("Failed to obtain connection", e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        return submitAsync(() -> execute(callback));
+    }
+
+    @Override
+    public CompletableFuture<Void> executeVoidAsync(TransactionVoidCallback callback) {
+        Objects.requireNonNull(callback, "callback");
+        return submitAsync(() -> {
+            executeVoid(callback);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T executeReadOnly(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        if (!started.get() || stopped.get()) {
+            throw new DatabaseException("데이터베이스가 " + state.get() + " 상태입니다");
+        }
+        ReplicaRouter router = replicaRouter;
+        ReplicaRouter.Replica replica = router == null ? null : router.acquire();
+        if (replica == null) {
+            return execute(callback);
+        }
+        try {
+            Connection connection = openReplicaConnection(router, replica);
+            if (connection == null) {
+                replicaFallbacks.incrementAndGet();
+                return execute(callback);
+            }
+            return executeOnReplica(router, replica, connection, callback);
+        } finally {
+            router.release(replica);
+        }
+    }
+
+    @Override
+    public <T> T executeReadOnly(String sessionKey, TransactionCallback<T> callback) {
+        if (sessionKey != null && isInsideWriteWindow(sessionKey)) {
+            return execute(callback);
+        }
+        return executeReadOnly(callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeReadOnlyAsync(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        return submitAsync(() -> executeReadOnly(callback));
+    }
+
+    @Override
+    public void markWritten(String sessionKey) {
+        ReplicaRouter router = replicaRouter;
+        if (sessionKey == null || router == null || router.isEmpty() || settings.readYourWritesWindow().isZero()) {
+            return;
+        }
+        recentWrites.put(sessionKey, System.nanoTime());
+    }
+
+    /**
+     * 레플리카별 진행 중인 읽기 트랜잭션 수 (제외된 레플리카는 -1). 레플리카가 없으면 빈 맵.
+     */
+    public Map<String, Integer> replicaLoadSnapshot() {
+        ReplicaRouter router = replicaRouter;
+        return router == null ? Map.of() : router.loadSnapshot();
+    }
+
+    /**
+     * 레플리카 커넥션 실패로 프라이머리에서 대신 처리한 읽기 횟수.
+     */
+    public long replicaFallbackCount() {
+        return replicaFallbacks.get();
+    }
+
+    /**
+     * 이 서비스의 풀과 비동기 실행기를 공유하는 {@link DatabaseClient} 뷰. 수명주기는 서비스가 관리하므로
+     * 뷰의 {@code close()}는 아무 것도 닫지 않는다.
+     */
+    public DatabaseClient asDatabaseClient() {
+        DatabaseClient client = databaseClient;
+        if (client == null) {
+            synchronized (this) {
+                client = databaseClient;
+                if (client == null) {
+                    client = new ServiceDatabaseClient(this);
+                    databaseClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * 프라이머리 커넥션 하나를 빌려 {@code work}를 실행한다. 커밋/롤백은 {@code work}가 책임지며,
+     * 획득 지연·점유 시간·장애 판정은 {@link #execute(TransactionCallback)}와 동일하게 기록된다.
+     */
+    <T> T withConnection(ConnectionWork<T> work) {
+        ensureAvailable();
+        long waitStart = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            long acquiredAt = System.nanoTime();
+            recordAcquire(acquiredAt - waitStart);
+            try {
+                T result = work.apply(connection);
+                circuitBreaker.recordSuccess();
+                return result;
+            } catch (Exception e) {
+                rollbackQuietly(connection);
+                recordFailure("트랜잭션 실패", e);
+                throw e instanceof DatabaseException databaseException ? databaseException : new DatabaseException("Transaction failed", e);
+            } finally {
+                connectionUsage.recordSince(acquiredAt);
             }
         } catch (SQLException e) {
-            markFailure("커넥션 획득 실패", e);
+            recordAcquireFailure(e);
+            recordFailure("커넥션 획득 실패", e);
             throw new DatabaseException("Failed to obtain connection", e);
         }
     }
 
+    <T> CompletableFuture<T> submit(Supplier<T> work) {
+        return submitAsync(work);
+    }
+
+    @FunctionalInterface
+    interface ConnectionWork<T> {
+        T apply(Connection connection) throws Exception;
+    }
+
+    /**
+     * 재시도 가능한 실패로 롤백된 시도. {@link #executeWithRetry(TransactionCallback)} 밖으로 나가지 않는다.
+     */
+    private static final class RetryableTransactionException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final TransactionRetryStats.Cause retryCause;
+
+        private RetryableTransactionException(TransactionRetryStats.Cause cause, Exception error) {
+            super(error);
+            this.retryCause = cause;
+        }
+    }
+
+    /**
+     * 프라이머리 풀의 현재 커넥션 수, 대기 스레드, 획득/점유 시간 분포. 풀이 없으면 커넥션 수는 0이다.
+     */
+    public PoolMetrics poolMetrics() {
+        HikariDataSource current = dataSource;
+        HikariPoolMXBean pool = current == null ? null : current.getHikariPoolMXBean();
+        int maximumPoolSize = current == null ? 0 : current.getHikariConfigMXBean().getMaximumPoolSize();
+        if (pool == null) {
+            return new PoolMetrics(0, 0, 0, 0, maximumPoolSize, connectionTimeouts.get(), connectionAcquire.snapshot(), connectionUsage.snapshot());
+        }
+        return new PoolMetrics(pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(), maximumPoolSize, connectionTimeouts.get(),
+                connectionAcquire.snapshot(), connectionUsage.snapshot());
+    }
+
+    /**
+     * 비동기 작업이 실행되기까지 대기열에서 기다린 시간 분포.
+     */
+    public LatencyHistogram.Snapshot asyncQueueWaitSnapshot() {
+        return asyncQueueWait.snapshot();
+    }
+
+    /**
+     * 비동기 작업의 실행 시간(커넥션 획득 포함) 분포.
+     */
+    public LatencyHistogram.Snapshot asyncExecutionSnapshot() {
+        return asyncExecution.snapshot();
+    }
+
+    /**
+     * 트랜잭션 세션 PreparedStatement 캐시의 누적 적중/미스 통계.
+     */
+    public StatementCacheStats statementCacheStats() {
+        return statementCacheStats;
+    }
+
+    /**
+     * 트랜잭션 세션에서 실행된 문장의 SQL 지문별 실행 시간·느린 쿼리·타임아웃 집계.
+     */
+    public SlowQueryRecorder slowQueries() {
+        return slowQueries;
+    }
+
+    public int asyncQueueDepth() {
+        return asyncExecutor.getQueue().size();
+    }
+
+    public long asyncRejectedCount() {
+        return asyncRejected.get();
+    }
+
     @Override
     public boolean isStarted() {
         return started.get();
     }
 
+    /**
+     * 풀 예열까지 끝나 RUNNING 상태일 때 {@code true}. 예열 중에는 CONNECTING 상태다.
+     */
+    @Override
+    public boolean isReady() {
+        return ready.get() && state.get() == DatabaseState.RUNNING;
+    }
+
+    /**
+     * 마지막 풀 예열 결과. 예열을 하지 않았으면 {@code null}.
+     */
+    public WarmUpReport lastWarmUp() {
+        return lastWarmUp;
+    }
+
     @Override
     public DatabaseState state() {
         return state.get();
@@ -132,7 +517,9 @@ public class HikariDatabaseService implements DatabaseService {
             return;
         }
         transitionState(DatabaseState.CONNECTING, "데이터베이스 풀을 초기화합니다");
+        initializeReplicas();
         if (initializeDataSource()) {
+            warmUpPool();
             transitionState(DatabaseState.RUNNING, "데이터베이스 연결이 준비되었습니다");
         } else {
             transitionState(DatabaseState.DEGRADED, "데이터베이스 초기화에 실패했습니다 - 자동 복구를 대기합니다");
@@ -142,15 +529,185 @@ public class HikariDatabaseService implements DatabaseService {
 
     @Override
     public void stop() {
-        if (!started.getAndSet(false)) {
+        if (!started.get() || !closing.compareAndSet(false, true)) {
             return;
         }
+        ready.set(false);
+        // 새 비동기 작업부터 막고, 이미 수락한 작업은 풀이 열려 있는 동안 끝까지 실행한 뒤에 서비스를 멈춘다.
+        shutdownAsyncExecutor();
+        started.set(false);
         stopped.set(true);
         transitionState(DatabaseState.STOPPED, "데이터베이스 서비스를 종료합니다");
         healthChecker.shutdownNow();
         if (dataSource != null) {
             dataSource.close();
         }
+        ReplicaRouter router = replicaRouter;
+        replicaRouter = null;
+        if (router != null) {
+            router.close();
+        }
+        recentWrites.clear();
+    }
+
+    private JdbcDbSession openSession(Connection connection) {
+        return new JdbcDbSession(connection, settings.statementCacheSize(), statementCacheStats, settings.queryTimeout(), slowQueries);
+    }
+
+    private Connection openReplicaConnection(ReplicaRouter router, ReplicaRouter.Replica replica) {
+        try {
+            Connection connection = replica.dataSource().getConnection();
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            router.markUnhealthy(replica, e);
+            return null;
+        }
+    }
+
+    private <T> T executeOnReplica(ReplicaRouter router, ReplicaRouter.Replica replica, Connection connection, TransactionCallback<T> callback) {
+        try (connection) {
+            JdbcDbSession session = openSession(connection);
+            try {
+                long txStart = System.nanoTime();
+                T result = callback.doInTransaction(session);
+                session.close();
+                connection.commit();
+                logTransactionDuration(txStart);
+                return result;
+            } catch (Exception e) {
+                session.close();
+                rollbackQuietly(connection);
+                // 레플리카 오류는 프라이머리 장애 카운터에 반영하지 않는다. 트랜잭션 중 연결이 끊긴 경우에는
+                // 다음 커넥션 획득 실패를 기다리지 않고 바로 레플리카를 제외한다.
+                if (SqlFailures.isConnectionFailure(e)) {
+                    router.markUnhealthy(replica, e);
+                }
+                LOGGER.warn("레플리카 {} 읽기 트랜잭션 실패", replica.endpoint(), e);
+                throw new DatabaseException("Read-only transaction failed on replica " + replica.endpoint(), e);
+            }
+        } catch (SQLException e) {
+            router.markUnhealthy(replica, e);
+            throw new DatabaseException("Replica connection failed: " + replica.endpoint(), e);
+        }
+    }
+
+    private boolean isInsideWriteWindow(String sessionKey) {
+        Long writtenAt = recentWrites.get(sessionKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < settings.readYourWritesWindow().toNanos()) {
+            return true;
+        }
+        recentWrites.remove(sessionKey, writtenAt);
+        return false;
+    }
+
+    private void initializeReplicas() {
+        if (config.replicas().isEmpty()) {
+            return;
+        }
+        try {
+            int[] index = {0};
+            replicaRouter = ReplicaRouter.create(config.replicas(),
+                    endpoint -> buildHikariConfig(endpoint.host(), endpoint.port(), "InfraCoreHikariPool-replica-" + (index[0]++)));
+        } catch (Exception e) {
+            LOGGER.warn("읽기 레플리카 초기화 실패 - 모든 읽기를 프라이머리로 보냅니다", e);
+        }
+    }
+
+    private void adjustPoolSize() {
+        HikariDataSource current = dataSource;
+        if (poolSizer == null || current == null || state.get() != DatabaseState.RUNNING) {
+            return;
+        }
+        HikariPoolMXBean pool = current.getHikariPoolMXBean();
+        if (pool != null) {
+            poolSizer.adjust(current.getHikariConfigMXBean(), pool);
+        }
+    }
+
+    private void recordAcquire(long waitNanos) {
+        connectionAcquire.record(waitNanos);
+        if (poolSizer != null) {
+            poolSizer.recordAcquire(waitNanos);
+        }
+        logConnectionWait(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    private void recordAcquireFailure(SQLException e) {
+        if (e instanceof SQLTransientConnectionException) {
+            connectionTimeouts.incrementAndGet();
+        }
+    }
+
+    private void maintainReplicas() {
+        ReplicaRouter router = replicaRouter;
+        if (router == null) {
+            return;
+        }
+        router.probeUnhealthy();
+        long windowNanos = settings.readYourWritesWindow().toNanos();
+        long now = System.nanoTime();
+        recentWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    private <T> CompletableFuture<T> submitAsync(Supplier<T> work) {
+        if (!started.get() || closing.get() || dataSource == null || circuitBreaker.isRejecting()) {
+            return CompletableFuture.failedFuture(new DatabaseException("데이터베이스가 " + state.get() + " 상태입니다"));
+        }
+        if (!acquireAsyncPermit()) {
+            long rejected = asyncRejected.incrementAndGet();
+            LOGGER.warn("DB 비동기 대기열이 가득 차 요청을 거부합니다 (대기 {}건, 누적 거부 {}회)", asyncQueueDepth(), rejected);
+            return CompletableFuture.failedFuture(new DatabaseException("Database async queue is full"));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            asyncExecutor.execute(() -> {
+                long startedAt = System.nanoTime();
+                asyncQueueWait.record(startedAt - submittedAt);
+                try {
+                    future.complete(work.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    asyncExecution.recordSince(startedAt);
+                    asyncAdmission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            asyncAdmission.release();
+            future.completeExceptionally(new DatabaseException("Database service is shutting down", e));
+        }
+        return future;
+    }
+
+    private boolean acquireAsyncPermit() {
+        long timeoutMs = settings.admissionTimeout().toMillis();
+        if (timeoutMs <= 0) {
+            return asyncAdmission.tryAcquire();
+        }
+        try {
+            return asyncAdmission.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void shutdownAsyncExecutor() {
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.warn("DB 비동기 작업이 종료 시간 내에 끝나지 않아 강제 종료합니다");
+                asyncExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            asyncExecutor.shutdownNow();
+        }
     }
 
     private boolean initializeDataSource() {
@@ -158,27 +715,20 @@ public class HikariDatabaseService implements DatabaseService {
             if (dataSource != null) {
                 dataSource.close();
             }
-            HikariConfig hikariConfig = new HikariConfig();
-            int poolSize = Math.max(1, config.poolSize());
-            hikariConfig.setJdbcUrl(buildJdbcUrl());
-            hikariConfig.setUsername(config.username());
-            hikariConfig.setPassword(config.password());
-            hikariConfig.setDriverClassName("com.mysql.cj.jdbc.Driver");
-            hikariConfig.setMaximumPoolSize(poolSize);
-            hikariConfig.setMinimumIdle(Math.min(2, poolSize));
-            hikariConfig.setPoolName("InfraCoreHikariPool");
-            hikariConfig.setConnectionTimeout(Duration.ofSeconds(5).toMillis());
-            hikariConfig.setValidationTimeout(Duration.ofSeconds(3).toMillis());
-            hikariConfig.setMaxLifetime(Duration.ofMinutes(30).toMillis());
-            hikariConfig.setLeakDetectionThreshold(Duration.ofSeconds(10).toMillis());
-            hikariConfig.setAutoCommit(false);
-
-            for (Map.Entry<String, String> entry : config.properties().entrySet()) {
-                hikariConfig.addDataSourceProperty(entry.getKey(), entry.getValue());
+            HikariConfig hikariConfig = buildHikariConfig(config.host(), config.port(), "InfraCoreHikariPool");
+            if (poolSizer != null) {
+                int initial = poolSizer.clamp(hikariConfig.getMaximumPoolSize());
+                hikariConfig.setMaximumPoolSize(initial);
+                hikariConfig.setMinimumIdle(Math.min(hikariConfig.getMinimumIdle(), initial));
+            }
+            WarmUpSettings warmUp = settings.warmUp();
+            if (warmUp.enabled()) {
+                // 예열한 커넥션이 idleTimeout으로 정리되지 않도록 최소 유휴 수를 예열 수까지 올린다.
+                int warmConnections = warmUp.connectionsFor(hikariConfig.getMaximumPoolSize());
+                hikariConfig.setMinimumIdle(Math.max(hikariConfig.getMinimumIdle(), warmConnections));
             }
-
             dataSource = new HikariDataSource(hikariConfig);
-            consecutiveFailures.set(0);
+            circuitBreaker.forceClose();
             return true;
         } catch (Exception e) {
             LOGGER.warn("HikariDataSource 초기화 실패", e);
@@ -190,9 +740,59 @@ public class HikariDatabaseService implements DatabaseService {
         }
     }
 
+    /**
+     * 트래픽을 받기 전에 설정된 수만큼 커넥션을 열고 검증하고 hot statement를 prepare한다.
+     * 시간 안에 끝나지 않아도 예열된 만큼으로 준비 완료 처리해 노드가 시작 단계에 묶이지 않게 한다.
+     */
+    private void warmUpPool() {
+        WarmUpSettings warmUp = settings.warmUp();
+        HikariDataSource current = dataSource;
+        if (warmUp.enabled() && current != null) {
+            int connections = warmUp.connectionsFor(current.getHikariConfigMXBean().getMaximumPoolSize());
+            WarmUpReport report = PoolWarmer.warmUp(current, connections, warmUp.hotStatements(), warmUp.timeout().toNanos());
+            lastWarmUp = report;
+            if (report.complete()) {
+                LOGGER.info("커넥션 풀 예열 완료 - 커넥션 {}개, statement {}개, {}ms",
+                        report.opened(), report.preparedStatements(), report.elapsedMillis());
+            } else {
+                LOGGER.warn("커넥션 풀 일부만 예열되었습니다 - {}/{}개, {}ms",
+                        report.opened(), report.requested(), report.elapsedMillis());
+            }
+        }
+        ready.set(true);
+    }
+
+    private HikariConfig buildHikariConfig(String host, int port, String poolName) {
+        HikariConfig hikariConfig = new HikariConfig();
+        int poolSize = Math.max(1, config.poolSize());
+        hikariConfig.setJdbcUrl(buildJdbcUrl(host, port));
+        hikariConfig.setUsername(config.username());
+        hikariConfig.setPassword(config.password());
+        hikariConfig.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        hikariConfig.setMaximumPoolSize(poolSize);
+        hikariConfig.setMinimumIdle(Math.min(2, poolSize));
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setConnectionTimeout(Duration.ofSeconds(5).toMillis());
+        hikariConfig.setValidationTimeout(Duration.ofSeconds(3).toMillis());
+        hikariConfig.setMaxLifetime(Duration.ofMinutes(30).toMillis());
+        hikariConfig.setLeakDetectionThreshold(Duration.ofSeconds(10).toMillis());
+        hikariConfig.setAutoCommit(false);
+        // 공통 드라이버 설정 적용 후 사용자 properties로 덮어쓸 수 있다.
+        MySqlDataSourceProperties.apply(hikariConfig);
+        hikariConfig.addDataSourceProperty(MySqlBulkTransfer.LOCAL_INFILE_PATH_PROPERTY, MySqlBulkTransfer.localInfileSandbox());
+
+        for (Map.Entry<String, String> entry : config.properties().entrySet()) {
+            hikariConfig.addDataSourceProperty(entry.getKey(), entry.getValue());
+        }
+        return hikariConfig;
+    }
+
+    /**
+     * 서킷이 닫혀 있거나 HALF_OPEN 시험 허가를 얻은 경우에만 통과시킨다.
+     */
     private void ensureAvailable() {
-        if (state.get() != DatabaseState.RUNNING || dataSource == null) {
-            throw new DatabaseException("데이터베이스가 DEGRADED 상태입니다");
+        if (!started.get() || stopped.get() || dataSource == null || !circuitBreaker.tryAcquire()) {
+            throw new DatabaseException("데이터베이스가 " + state.get() + " 상태입니다");
         }
     }
 
@@ -202,24 +802,76 @@ public class HikariDatabaseService implements DatabaseService {
         }
     }
 
+    /**
+     * 헬스 체크 루프. 풀은 최초 생성에 실패했을 때만 다시 만들고, 이후에는 가벼운 검증 쿼리로 상태를 확인한다.
+     * 장애 중 검증이 성공하면 남아 있는 커넥션을 soft-evict한 뒤 서킷을 닫는다.
+     */
     private void attemptRecovery() {
         if (stopped.get()) {
             return;
         }
-        DatabaseState current = state.get();
-        if (current == DatabaseState.RUNNING) {
+        maintainReplicas();
+        adjustPoolSize();
+        if (dataSource == null) {
+            if (initializeDataSource()) {
+                warmUpPool();
+                transitionState(DatabaseState.RUNNING, "데이터베이스 연결이 복구되었습니다");
+            }
             return;
         }
-        if (initializeDataSource()) {
-            transitionState(DatabaseState.RUNNING, "데이터베이스 연결이 복구되었습니다");
+        boolean healthy = probe();
+        if (circuitBreaker.state() == CircuitBreaker.State.CLOSED) {
+            if (!healthy) {
+                markFailure("DB 헬스 체크 실패", null);
+            }
+            return;
+        }
+        if (healthy) {
+            dataSource.getHikariPoolMXBean().softEvictConnections();
+            circuitBreaker.forceClose();
+        }
+    }
+
+    private boolean probe() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(PROBE_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            recordAcquireFailure(e);
+            LOGGER.debug("DB 헬스 체크 커넥션 획득 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 연결 수준 장애만 서킷 실패로 센다. 쿼리 오류는 데이터베이스가 응답했다는 뜻이므로 성공으로 취급한다.
+     */
+    private void recordFailure(String message, Exception cause) {
+        if (SqlFailures.isConnectionFailure(cause)) {
+            markFailure(message, cause);
+        } else {
+            LOGGER.warn("{} - 쿼리 오류", message, cause);
+            circuitBreaker.recordSuccess();
         }
     }
 
     private void markFailure(String message, Exception cause) {
-        int failures = consecutiveFailures.incrementAndGet();
-        LOGGER.warn("{} (연속 {}회)", message, failures, cause);
-        if (failures >= FAILURE_THRESHOLD) {
-            transitionState(DatabaseState.DEGRADED, "데이터베이스 장애 감지 - 요청을 거부합니다");
+        circuitBreaker.recordFailure();
+        LOGGER.warn("{} (연속 연결 실패 {}회)", message, circuitBreaker.consecutiveFailures(), cause);
+    }
+
+    private void onCircuitStateChange(CircuitBreaker.State from, CircuitBreaker.State to) {
+        switch (to) {
+            case OPEN -> {
+                transitionState(DatabaseState.DEGRADED, "데이터베이스 장애 감지 - 요청을 거부합니다");
+                HikariDataSource current = dataSource;
+                HikariPoolMXBean pool = current == null ? null : current.getHikariPoolMXBean();
+                if (pool != null) {
+                    // 끊긴 커넥션이 재사용되지 않도록 사용 중이 아닌 커넥션부터 교체한다.
+                    pool.softEvictConnections();
+                }
+            }
+            case HALF_OPEN -> LOGGER.info("데이터베이스 시험 요청을 허용합니다 (HALF_OPEN)");
+            case CLOSED -> transitionState(DatabaseState.RUNNING, "데이터베이스 연결이 복구되었습니다");
         }
     }
 
@@ -240,9 +892,7 @@ public class HikariDatabaseService implements DatabaseService {
         }
     }
 
-    private String buildJdbcUrl() {
-        String host = config.host();
-        int port = config.port();
+    private String buildJdbcUrl(String host, int port) {
         String database = config.database();
         if (host == null || host.isBlank()) {
             throw new IllegalStateException("host must be provided");
@@ -266,6 +916,17 @@ public class HikariDatabaseService implements DatabaseService {
         }
     }
 
+    private static void sleepBackoff(long nanos, RetryableTransactionException pending) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DatabaseException failure = new DatabaseException("Transaction retry interrupted", pending.getCause());
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+
     private void rollbackQuietly(Connection connection) {
         try {
             connection.rollback();
@@ -0,0 +1,57 @@
+package kr.crownrpg.infra.core.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * PreparedStatement 하나를 재사용해 {@code addBatch}/{@code executeBatch}를 청크 단위로 수행한다.
+ * MySQL에서는 {@code rewriteBatchedStatements=true}와 함께 사용하면 청크가 다중 행 INSERT 한 번으로 합쳐진다.
+ */
+final class JdbcBatch {
+
+    private JdbcBatch() {
+    }
+
+    @FunctionalInterface
+    interface ParameterBinder {
+        void bind(PreparedStatement statement, Object[] params) throws Exception;
+    }
+
+    static int[] execute(Connection connection, String sql, Iterator<Object[]> rows, int chunkSize, ParameterBinder binder) throws Exception {
+        Objects.requireNonNull(rows, "rows");
+        int size = Math.max(1, chunkSize);
+        int[] counts = new int[Math.min(size, 64)];
+        int total = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            while (rows.hasNext()) {
+                binder.bind(statement, rows.next());
+                statement.addBatch();
+                if (++pending == size) {
+                    int[] chunk = statement.executeBatch();
+                    counts = append(counts, total, chunk);
+                    total += chunk.length;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                int[] chunk = statement.executeBatch();
+                counts = append(counts, total, chunk);
+                total += chunk.length;
+            }
+        }
+        return total == counts.length ? counts : Arrays.copyOf(counts, total);
+    }
+
+    private static int[] append(int[] counts, int length, int[] chunk) {
+        int[] target = counts;
+        if (length + chunk.length > target.length) {
+            target = Arrays.copyOf(target, Math.max(target.length * 2, length + chunk.length));
+        }
+        System.arraycopy(chunk, 0, target, length, chunk.length);
+        return target;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.crownrpg.infra.core.database;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ResultSet 하나에 대해 한 번만 만드는 컬럼 라벨 → 인덱스 사상과 컬럼 저장 방식.
+ * <p>
+ * 드라이버가 보고하는 컬럼 클래스로 정수/실수 컬럼을 구분해 원시 배열에 저장하고,
+ * {@link #box(int, long)}로 기존과 같은 박싱 타입(Integer/Long/Float/Double)을 돌려준다.
+ */
+final class JdbcColumnIndex {
+
+    static final byte KIND_LONG = 0;
+    static final byte KIND_DOUBLE = 1;
+    static final byte KIND_OBJECT = 2;
+
+    private final String[] labels;
+    private final byte[] kinds;
+    private final boolean[] narrow;
+    private final Map<String, Integer> byLabel;
+    private final Map<String, Integer> byLowerLabel;
+
+    private JdbcColumnIndex(String[] labels, byte[] kinds, boolean[] narrow) {
+        this.labels = labels;
+        this.kinds = kinds;
+        this.narrow = narrow;
+        this.byLabel = new HashMap<>(labels.length * 2);
+        this.byLowerLabel = new HashMap<>(labels.length * 2);
+        for (int i = 0; i < labels.length; i++) {
+            byLabel.put(labels[i], i);
+            byLowerLabel.put(labels[i].toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    static JdbcColumnIndex of(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        String[] labels = new String[count];
+        byte[] kinds = new byte[count];
+        boolean[] narrow = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+            String className = metaData.getColumnClassName(i + 1);
+            if (Integer.class.getName().equals(className)) {
+                kinds[i] = KIND_LONG;
+                narrow[i] = true;
+            } else if (Long.class.getName().equals(className)) {
+                kinds[i] = KIND_LONG;
+            } else if (Float.class.getName().equals(className)) {
+                kinds[i] = KIND_DOUBLE;
+                narrow[i] = true;
+            } else if (Double.class.getName().equals(className)) {
+                kinds[i] = KIND_DOUBLE;
+            } else {
+                kinds[i] = KIND_OBJECT;
+            }
+        }
+        return new JdbcColumnIndex(labels, kinds, narrow);
+    }
+
+    int size() {
+        return labels.length;
+    }
+
+    /**
+     * @return 0부터 시작하는 컬럼 위치, 없으면 -1. 정확히 일치하는 라벨이 없으면 대소문자를 무시하고 찾는다.
+     */
+    int indexOf(String label) {
+        Integer index = byLabel.get(label);
+        if (index == null && label != null) {
+            index = byLowerLabel.get(label.toLowerCase(Locale.ROOT));
+        }
+        return index == null ? -1 : index;
+    }
+
+    String label(int column) {
+        return labels[column];
+    }
+
+    byte kind(int column) {
+        return kinds[column];
+    }
+
+    Object box(int column, long value) {
+        return narrow[column] ? (Object) (int) value : (Object) value;
+    }
+
+    Object box(int column, double value) {
+        return narrow[column] ? (Object) (float) value : (Object) value;
+    }
+}
@@ -0,0 +1,122 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ResultSet을 리스트로 모으지 않고 한 행씩 흘려보내는 전방 전용 커서.
+ * <p>
+ * fetchSize가 0 이하이면 MySQL 행 단위 스트리밍({@code Integer.MIN_VALUE})을 사용하고,
+ * 양수이면 {@code useCursorFetch=true} 서버 커서로 해당 크기만큼씩 가져온다.
+ * 행 단위 스트리밍 중에는 같은 커넥션에서 다른 쿼리를 실행할 수 없으므로 스트림을 먼저 닫아야 한다.
+ */
+final class JdbcCursor<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    @FunctionalInterface
+    interface RowReader<T> {
+        T read(ResultSet resultSet) throws Exception;
+    }
+
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final RowReader<T> reader;
+    private final List<AutoCloseable> scope;
+    private boolean closed;
+
+    private JdbcCursor(PreparedStatement statement, ResultSet resultSet, RowReader<T> reader, List<AutoCloseable> scope) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.reader = reader;
+        this.scope = scope;
+    }
+
+    /**
+     * 쿼리를 실행하고 커서를 스트림으로 연다. 열린 커서는 {@code scope}에 등록되어 트랜잭션 종료 시 함께 닫히며,
+     * 먼저 닫히면 {@code scope}에서 빠진다.
+     */
+    static <T> Stream<T> open(Connection connection,
+                              String sql,
+                              int fetchSize,
+                              JdbcBatch.ParameterBinder binder,
+                              Object[] params,
+                              RowReader<T> reader,
+                              List<AutoCloseable> scope) throws Exception {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            statement.setFetchSize(fetchSize > 0 ? fetchSize : Integer.MIN_VALUE);
+            binder.bind(statement, params);
+            JdbcCursor<T> cursor = new JdbcCursor<>(statement, statement.executeQuery(), reader, scope);
+            scope.add(cursor);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (Exception e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    static void closeAll(List<AutoCloseable> scope) {
+        // 각 커서가 닫히면서 scope에서 자신을 빼므로 사본을 순회한다.
+        List<AutoCloseable> cursors = new ArrayList<>(scope);
+        scope.clear();
+        for (AutoCloseable cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (Exception ignored) {
+                // ignore
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        T value;
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            value = reader.read(resultSet);
+        } catch (DatabaseException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new DatabaseException("Failed to read streaming result", e);
+        }
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        scope.remove(this);
+        try {
+            resultSet.close();
+        } catch (Exception ignored) {
+            // ignore
+        }
+        try {
+            statement.close();
+        } catch (Exception ignored) {
+            // ignore
+        }
+    }
+}
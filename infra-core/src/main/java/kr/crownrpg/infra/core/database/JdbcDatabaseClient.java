@@ -17,7 +17,11 @@ import java.util.function.Function;
  *
  * - query(...) : 커넥션 1회 사용 후 종료
  * - transaction(...) : setAutoCommit(false) 트랜잭션 스코프 보장
+ *
+ * @deprecated 전달받은 {@link ConnectionProvider}와 실행기를 따로 쓰므로 DatabaseService와 풀·실행기가 나뉜다.
+ * 같은 풀을 공유하는 {@link HikariDatabaseService#asDatabaseClient()}를 사용한다.
  */
+@Deprecated
 public final class JdbcDatabaseClient implements DatabaseClient {
 
     private final ConnectionProvider provider;
@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.core.database;
 
 import kr.crownrpg.infra.api.database.DbSession;
+import kr.crownrpg.infra.api.database.Params;
 import kr.crownrpg.infra.api.database.RowMapper;
 import kr.crownrpg.infra.api.database.ResultRow;
 
@@ -8,47 +9,113 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.sql.Types;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JDBC-based DbSession implementation backed by PreparedStatement.
+ * <p>
+ * Statements are kept in a per-session LRU cache keyed by SQL, so repeating the same statement inside one
+ * transaction skips the prepare round trip. Close the session before releasing its connection.
+ * <p>
+ * Single-statement updates and queries honour the session's query timeout ({@link #withQueryTimeout(Duration)})
+ * and are reported to the {@link SlowQueryRecorder}, when one is given. Streams and batches are not timed.
  */
-public class JdbcDbSession implements DbSession {
+public class JdbcDbSession implements DbSession, AutoCloseable {
+
+    /** Default number of statements cached per session. */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
 
     private final Connection connection;
+    private final List<AutoCloseable> openCursors;
+    private final StatementCache statements;
+    private final int queryTimeoutSeconds;
+    private final SlowQueryRecorder slowQueries;
 
     public JdbcDbSession(Connection connection) {
+        this(connection, DEFAULT_STATEMENT_CACHE_SIZE, new StatementCacheStats());
+    }
+
+    public JdbcDbSession(Connection connection, int statementCacheSize, StatementCacheStats statementCacheStats) {
+        this(connection, statementCacheSize, statementCacheStats, Duration.ZERO, null);
+    }
+
+    /**
+     * @param queryTimeout 문장별 실행 제한 시간 (0이면 제한 없음, JDBC 특성상 초 단위로 올림)
+     * @param slowQueries  실행 시간을 기록할 곳 ({@code null}이면 기록하지 않음)
+     */
+    public JdbcDbSession(Connection connection, int statementCacheSize, StatementCacheStats statementCacheStats,
+                         Duration queryTimeout, SlowQueryRecorder slowQueries) {
         this.connection = connection;
+        this.openCursors = new ArrayList<>();
+        this.statements = new StatementCache(connection, statementCacheSize, statementCacheStats);
+        this.queryTimeoutSeconds = toTimeoutSeconds(queryTimeout);
+        this.slowQueries = slowQueries;
+    }
+
+    private JdbcDbSession(JdbcDbSession parent, int queryTimeoutSeconds) {
+        this.connection = parent.connection;
+        this.openCursors = parent.openCursors;
+        this.statements = parent.statements;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.slowQueries = parent.slowQueries;
+    }
+
+    /**
+     * 같은 커넥션과 statement 캐시를 쓰면서 제한 시간만 다른 세션 뷰. 뷰는 이 세션과 함께 닫힌다.
+     */
+    @Override
+    public JdbcDbSession withQueryTimeout(Duration timeout) {
+        int seconds = toTimeoutSeconds(timeout);
+        return seconds == queryTimeoutSeconds ? this : new JdbcDbSession(this, seconds);
     }
 
     @Override
     public int executeUpdate(String sql, Object... params) {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            bindParameters(statement, params);
-            return statement.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to execute update", e);
-        }
+        return update(sql, statement -> SqlBinder.bind(statement, params));
+    }
+
+    @Override
+    public int executeUpdate(String sql, Params params) {
+        return update(sql, statement -> SqlBinder.bind(statement, params));
     }
 
     @Override
     public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            bindParameters(statement, params);
-            try (ResultSet resultSet = statement.executeQuery()) {
+        return select(sql, mapper, statement -> SqlBinder.bind(statement, params));
+    }
+
+    @Override
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Params params) {
+        return select(sql, mapper, statement -> SqlBinder.bind(statement, params));
+    }
+
+    @Override
+    public <T> List<T> query(String sql, Class<T> type, Object... params) {
+        try {
+            PreparedStatement statement = prepare(sql);
+            long start = System.nanoTime();
+            try {
+                SqlBinder.bind(statement, params);
                 List<T> results = new ArrayList<>();
-                while (resultSet.next()) {
-                    ResultRow row = new JdbcResultRow(resultSet);
-                    results.add(mapper.map(row));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    TypedRowMapper<T> mapper = TypedRowMapper.forQuery(sql, type, resultSet);
+                    while (resultSet.next()) {
+                        results.add(mapper.map(resultSet));
+                    }
                 }
+                recordExecution(sql, start, null);
+                statements.release(sql, statement);
                 return results;
+            } catch (SQLException | RuntimeException e) {
+                recordExecution(sql, start, e);
+                StatementCache.discard(statement);
+                throw e;
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to execute query", e);
@@ -64,24 +131,122 @@ public class JdbcDbSession implements DbSession {
         return Optional.ofNullable(results.get(0));
     }
 
-    private void bindParameters(PreparedStatement statement, Object... params) throws SQLException {
-        if (params == null) {
-            return;
+    @Override
+    public <T> Stream<T> stream(String sql, int fetchSize, RowMapper<T> mapper, Object... params) {
+        try {
+            JdbcResultRow[] view = new JdbcResultRow[1];
+            return JdbcCursor.open(connection, sql, fetchSize, SqlBinder::bind, params, resultSet -> {
+                if (view[0] == null) {
+                    view[0] = new JdbcResultRow(resultSet);
+                }
+                return mapper.map(view[0]);
+            }, openCursors);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to open streaming query", e);
+        }
+    }
+
+    /**
+     * 아직 열려 있는 스트리밍 커서를 모두 닫는다. 커밋/롤백 직전에 호출한다.
+     */
+    public void closeOpenCursors() {
+        JdbcCursor.closeAll(openCursors);
+    }
+
+    /**
+     * 열린 커서와 캐시된 statement를 모두 닫는다. 커넥션을 반환하기 전에 호출한다.
+     */
+    @Override
+    public void close() {
+        closeOpenCursors();
+        statements.close();
+    }
+
+    @Override
+    public int[] executeBatch(String sql, Iterator<Object[]> rows, int chunkSize) {
+        try {
+            return JdbcBatch.execute(connection, sql, rows, chunkSize, SqlBinder::bind);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to execute batch", e);
         }
-        for (int i = 0; i < params.length; i++) {
-            Object param = params[i];
-            int index = i + 1;
-            if (param == null) {
-                statement.setNull(index, Types.NULL);
-            } else if (param instanceof LocalDate localDate) {
-                statement.setDate(index, java.sql.Date.valueOf(localDate));
-            } else if (param instanceof LocalDateTime localDateTime) {
-                statement.setTimestamp(index, Timestamp.valueOf(localDateTime));
-            } else if (param instanceof Instant instant) {
-                statement.setTimestamp(index, Timestamp.from(instant));
-            } else {
-                statement.setObject(index, param);
+    }
+
+    private int update(String sql, StatementBinder binder) {
+        try {
+            PreparedStatement statement = prepare(sql);
+            long start = System.nanoTime();
+            try {
+                binder.bind(statement);
+                int updated = statement.executeUpdate();
+                recordExecution(sql, start, null);
+                statements.release(sql, statement);
+                return updated;
+            } catch (SQLException | RuntimeException e) {
+                recordExecution(sql, start, e);
+                StatementCache.discard(statement);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute update", e);
+        }
+    }
+
+    private <T> List<T> select(String sql, RowMapper<T> mapper, StatementBinder binder) {
+        try {
+            PreparedStatement statement = prepare(sql);
+            long start = System.nanoTime();
+            try {
+                binder.bind(statement);
+                List<T> results = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    ResultRow row = new JdbcResultRow(resultSet);
+                    while (resultSet.next()) {
+                        results.add(mapper.map(row));
+                    }
+                }
+                recordExecution(sql, start, null);
+                statements.release(sql, statement);
+                return results;
+            } catch (SQLException | RuntimeException e) {
+                recordExecution(sql, start, e);
+                StatementCache.discard(statement);
+                throw e;
             }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to execute query", e);
+        }
+    }
+
+    /**
+     * 캐시에서 꺼낸 statement에는 이전 뷰의 제한 시간이 남아 있을 수 있으므로 매번 다시 지정한다.
+     */
+    private PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.acquire(sql);
+        try {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            return statement;
+        } catch (SQLException e) {
+            StatementCache.discard(statement);
+            throw e;
         }
     }
+
+    private void recordExecution(String sql, long startNanos, Exception error) {
+        if (slowQueries != null) {
+            slowQueries.record(sql, System.nanoTime() - startNanos, error instanceof SQLTimeoutException);
+        }
+    }
+
+    private static int toTimeoutSeconds(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            return 0;
+        }
+        long seconds = (timeout.toMillis() + 999) / 1000;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, seconds));
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
 }
@@ -0,0 +1,117 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.Row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 스트리밍 중 커서의 현재 행을 그대로 읽는 {@link Row}. 값을 복사하지 않으므로 커서가 전진하면 무효가 된다.
+ * 컬럼 라벨은 커서당 한 번 만든 {@link JdbcColumnIndex}로 해석한다.
+ */
+final class JdbcLiveRow implements Row {
+
+    private final ResultSet resultSet;
+    private final JdbcColumnIndex index;
+
+    JdbcLiveRow(ResultSet resultSet) throws SQLException {
+        this.resultSet = resultSet;
+        this.index = JdbcColumnIndex.of(resultSet.getMetaData());
+    }
+
+    @Override
+    public String getString(String column) {
+        return getString(findColumn(column));
+    }
+
+    @Override
+    public int getInt(String column) {
+        return getInt(findColumn(column));
+    }
+
+    @Override
+    public long getLong(String column) {
+        return getLong(findColumn(column));
+    }
+
+    @Override
+    public double getDouble(String column) {
+        return getDouble(findColumn(column));
+    }
+
+    @Override
+    public boolean getBoolean(String column) {
+        return getBoolean(findColumn(column));
+    }
+
+    @Override
+    public Optional<Object> get(String column) {
+        return get(findColumn(column));
+    }
+
+    @Override
+    public int findColumn(String column) {
+        int i = index.indexOf(column);
+        return i < 0 ? -1 : i + 1;
+    }
+
+    /**
+     * {@link JdbcRow}와 같은 문자열을 돌려주도록 드라이버 문자열 변환 대신 {@code getObject} 값을 {@code String.valueOf}로 바꾼다.
+     */
+    @Override
+    public String getString(int columnIndex) {
+        try {
+            Object value = columnIndex < 1 ? null : resultSet.getObject(columnIndex);
+            return value == null ? null : String.valueOf(value);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        try {
+            return columnIndex < 1 ? 0 : resultSet.getInt(columnIndex);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        try {
+            return columnIndex < 1 ? 0L : resultSet.getLong(columnIndex);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        try {
+            return columnIndex < 1 ? 0.0 : resultSet.getDouble(columnIndex);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        try {
+            return columnIndex >= 1 && resultSet.getBoolean(columnIndex);
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    @Override
+    public Optional<Object> get(int columnIndex) {
+        try {
+            return columnIndex < 1 ? Optional.empty() : Optional.ofNullable(resultSet.getObject(columnIndex));
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to read column " + columnIndex, e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.core.database;
 
 import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.Params;
 import kr.crownrpg.infra.api.database.QueryExecutor;
 import kr.crownrpg.infra.api.database.Row;
 
@@ -8,11 +9,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class JdbcQueryExecutor implements QueryExecutor {
 
     protected final Connection connection;
+    private final List<AutoCloseable> openCursors = new ArrayList<>();
 
     public JdbcQueryExecutor(Connection connection) {
         this.connection = connection;
@@ -28,20 +32,88 @@ public class JdbcQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int executeUpdate(String sql, Params params) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SqlBinder.bind(ps, params);
+            return ps.executeUpdate();
+        } catch (Exception e) {
+            throw new DatabaseException("executeUpdate failed: " + sql, e);
+        }
+    }
+
     @Override
     public List<Row> executeQuery(String sql, Object... params) {
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             SqlBinder.bind(ps, params);
 
             try (ResultSet rs = ps.executeQuery()) {
-                List<Row> rows = new ArrayList<>();
+                return JdbcResultTable.read(rs).rows();
+            }
+        } catch (Exception e) {
+            throw new DatabaseException("executeQuery failed: " + sql, e);
+        }
+    }
+
+    @Override
+    public List<Row> executeQuery(String sql, Params params) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SqlBinder.bind(ps, params);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return JdbcResultTable.read(rs).rows();
+            }
+        } catch (Exception e) {
+            throw new DatabaseException("executeQuery failed: " + sql, e);
+        }
+    }
+
+    @Override
+    public <T> List<T> executeQuery(String sql, Class<T> type, Object... params) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SqlBinder.bind(ps, params);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                TypedRowMapper<T> mapper = TypedRowMapper.forQuery(sql, type, rs);
+                List<T> results = new ArrayList<>();
                 while (rs.next()) {
-                    rows.add(JdbcRow.from(rs));
+                    results.add(mapper.map(rs));
                 }
-                return rows;
+                return results;
             }
         } catch (Exception e) {
             throw new DatabaseException("executeQuery failed: " + sql, e);
         }
     }
+
+    @Override
+    public Stream<Row> stream(String sql, int fetchSize, Object... params) {
+        try {
+            JdbcLiveRow[] view = new JdbcLiveRow[1];
+            return JdbcCursor.open(connection, sql, fetchSize, SqlBinder::bind, params, rs -> {
+                if (view[0] == null) {
+                    view[0] = new JdbcLiveRow(rs);
+                }
+                return view[0];
+            }, openCursors);
+        } catch (Exception e) {
+            throw new DatabaseException("stream failed: " + sql, e);
+        }
+    }
+
+    /**
+     * 아직 열려 있는 스트리밍 커서를 모두 닫는다.
+     */
+    protected void closeOpenCursors() {
+        JdbcCursor.closeAll(openCursors);
+    }
+
+    @Override
+    public int[] executeBatch(String sql, Iterator<Object[]> rows, int chunkSize) {
+        try {
+            return JdbcBatch.execute(connection, sql, rows, chunkSize, SqlBinder::bind);
+        } catch (Exception e) {
+            throw new DatabaseException("executeBatch failed: " + sql, e);
+        }
+    }
 }
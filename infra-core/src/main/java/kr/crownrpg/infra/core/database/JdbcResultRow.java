@@ -12,6 +12,8 @@ import java.util.Optional;
 
 /**
  * ResultRow implementation that wraps a JDBC {@link ResultSet}.
+ * <p>
+ * This is a live view of the cursor's current row, so one instance can be reused for every row of a result.
  */
 public class JdbcResultRow implements ResultRow {
 
@@ -117,4 +119,71 @@ public class JdbcResultRow implements ResultRow {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public int findColumn(String columnLabel) {
+        try {
+            return resultSet.findColumn(columnLabel);
+        } catch (SQLException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        try {
+            return resultSet.getString(columnIndex);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Integer getInt(int columnIndex) {
+        try {
+            int value = resultSet.getInt(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Long getLong(int columnIndex) {
+        try {
+            long value = resultSet.getLong(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Double getDouble(int columnIndex) {
+        try {
+            double value = resultSet.getDouble(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Boolean getBoolean(int columnIndex) {
+        try {
+            boolean value = resultSet.getBoolean(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> getObject(int columnIndex, Class<T> type) {
+        try {
+            return Optional.ofNullable(resultSet.getObject(columnIndex, type));
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
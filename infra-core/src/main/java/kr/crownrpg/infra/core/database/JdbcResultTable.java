@@ -0,0 +1,178 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.Row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 쿼리 결과 전체를 컬럼 단위 배열에 담는 테이블.
+ * <p>
+ * 정수/실수 컬럼은 {@code long[]}/{@code double[]}에 박싱 없이 저장하고 NULL은 컬럼별 비트셋으로 표시한다.
+ * 행마다 맵을 만들지 않으며, {@link #rows()}는 조회 시점에 가벼운 뷰를 만들어 돌려준다.
+ */
+final class JdbcResultTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final JdbcColumnIndex index;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final Object[][] objects;
+    private final BitSet[] nulls;
+    private int capacity;
+    private int size;
+
+    private JdbcResultTable(JdbcColumnIndex index) {
+        this.index = index;
+        int columns = index.size();
+        this.longs = new long[columns][];
+        this.doubles = new double[columns][];
+        this.objects = new Object[columns][];
+        this.nulls = new BitSet[columns];
+        this.capacity = INITIAL_CAPACITY;
+        for (int c = 0; c < columns; c++) {
+            switch (index.kind(c)) {
+                case JdbcColumnIndex.KIND_LONG -> longs[c] = new long[capacity];
+                case JdbcColumnIndex.KIND_DOUBLE -> doubles[c] = new double[capacity];
+                default -> objects[c] = new Object[capacity];
+            }
+            nulls[c] = new BitSet();
+        }
+    }
+
+    static JdbcResultTable read(ResultSet resultSet) throws SQLException {
+        JdbcResultTable table = new JdbcResultTable(JdbcColumnIndex.of(resultSet.getMetaData()));
+        while (resultSet.next()) {
+            table.append(resultSet);
+        }
+        return table;
+    }
+
+    /**
+     * 커서의 현재 행 하나만 담은 테이블.
+     */
+    static JdbcResultTable current(ResultSet resultSet) throws SQLException {
+        JdbcResultTable table = new JdbcResultTable(JdbcColumnIndex.of(resultSet.getMetaData()));
+        table.append(resultSet);
+        return table;
+    }
+
+    List<Row> rows() {
+        return new RowList();
+    }
+
+    int size() {
+        return size;
+    }
+
+    JdbcColumnIndex index() {
+        return index;
+    }
+
+    boolean isNull(int row, int column) {
+        return nulls[column].get(row);
+    }
+
+    long getLong(int row, int column) {
+        if (isNull(row, column)) {
+            return 0L;
+        }
+        return switch (index.kind(column)) {
+            case JdbcColumnIndex.KIND_LONG -> longs[column][row];
+            case JdbcColumnIndex.KIND_DOUBLE -> (long) doubles[column][row];
+            default -> {
+                Object v = objects[column][row];
+                yield v instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(v));
+            }
+        };
+    }
+
+    double getDouble(int row, int column) {
+        if (isNull(row, column)) {
+            return 0.0;
+        }
+        return switch (index.kind(column)) {
+            case JdbcColumnIndex.KIND_LONG -> longs[column][row];
+            case JdbcColumnIndex.KIND_DOUBLE -> doubles[column][row];
+            default -> {
+                Object v = objects[column][row];
+                yield v instanceof Number n ? n.doubleValue() : Double.parseDouble(String.valueOf(v));
+            }
+        };
+    }
+
+    Object getObject(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+        return switch (index.kind(column)) {
+            case JdbcColumnIndex.KIND_LONG -> index.box(column, longs[column][row]);
+            case JdbcColumnIndex.KIND_DOUBLE -> index.box(column, doubles[column][row]);
+            default -> objects[column][row];
+        };
+    }
+
+    private void append(ResultSet resultSet) throws SQLException {
+        if (size == capacity) {
+            grow();
+        }
+        for (int c = 0; c < longs.length; c++) {
+            int jdbcIndex = c + 1;
+            boolean wasNull;
+            switch (index.kind(c)) {
+                case JdbcColumnIndex.KIND_LONG -> {
+                    longs[c][size] = resultSet.getLong(jdbcIndex);
+                    wasNull = resultSet.wasNull();
+                }
+                case JdbcColumnIndex.KIND_DOUBLE -> {
+                    doubles[c][size] = resultSet.getDouble(jdbcIndex);
+                    wasNull = resultSet.wasNull();
+                }
+                default -> {
+                    Object value = resultSet.getObject(jdbcIndex);
+                    objects[c][size] = value;
+                    wasNull = value == null;
+                }
+            }
+            if (wasNull) {
+                nulls[c].set(size);
+            }
+        }
+        size++;
+    }
+
+    private void grow() {
+        capacity = capacity * 2;
+        for (int c = 0; c < longs.length; c++) {
+            if (longs[c] != null) {
+                longs[c] = Arrays.copyOf(longs[c], capacity);
+            } else if (doubles[c] != null) {
+                doubles[c] = Arrays.copyOf(doubles[c], capacity);
+            } else {
+                objects[c] = Arrays.copyOf(objects[c], capacity);
+            }
+        }
+    }
+
+    private final class RowList extends AbstractList<Row> implements RandomAccess {
+
+        @Override
+        public Row get(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("row " + row + " / size " + size);
+            }
+            return new JdbcRow(JdbcResultTable.this, row);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -3,73 +3,106 @@ package kr.crownrpg.infra.core.database;
 import kr.crownrpg.infra.api.database.Row;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
+/**
+ * {@link JdbcResultTable}의 한 행을 가리키는 뷰. 값은 테이블의 컬럼 배열에서 바로 읽는다.
+ */
 public final class JdbcRow implements Row {
 
-    private final Map<String, Object> values;
+    private final JdbcResultTable table;
+    private final int row;
 
-    private JdbcRow(Map<String, Object> values) {
-        this.values = values;
+    JdbcRow(JdbcResultTable table, int row) {
+        this.table = table;
+        this.row = row;
     }
 
+    /**
+     * 커서의 현재 행을 분리된 행으로 복사한다. 여러 행을 읽을 때는 컬럼 인덱스를 공유하는 테이블 경로를 사용한다.
+     */
     public static JdbcRow from(ResultSet rs) throws Exception {
-        ResultSetMetaData md = rs.getMetaData();
-        int count = md.getColumnCount();
-
-        Map<String, Object> map = new HashMap<>(count * 2);
-        for (int i = 1; i <= count; i++) {
-            String label = md.getColumnLabel(i);
-            Object value = rs.getObject(i);
-            map.put(label, value);
-        }
-        return new JdbcRow(map);
+        return new JdbcRow(JdbcResultTable.current(rs), 0);
     }
 
     @Override
     public String getString(String column) {
-        Object v = values.get(column);
-        return v == null ? null : String.valueOf(v);
+        return getString(findColumn(column));
     }
 
     @Override
     public int getInt(String column) {
-        Object v = values.get(column);
-        if (v == null) return 0;
-        if (v instanceof Number n) return n.intValue();
-        return Integer.parseInt(String.valueOf(v));
+        return getInt(findColumn(column));
     }
 
     @Override
     public long getLong(String column) {
-        Object v = values.get(column);
-        if (v == null) return 0L;
-        if (v instanceof Number n) return n.longValue();
-        return Long.parseLong(String.valueOf(v));
+        return getLong(findColumn(column));
     }
 
     @Override
     public double getDouble(String column) {
-        Object v = values.get(column);
-        if (v == null) return 0.0;
-        if (v instanceof Number n) return n.doubleValue();
-        return Double.parseDouble(String.valueOf(v));
+        return getDouble(findColumn(column));
     }
 
     @Override
     public boolean getBoolean(String column) {
-        Object v = values.get(column);
-        if (v == null) return false;
+        return getBoolean(findColumn(column));
+    }
+
+    @Override
+    public Optional<Object> get(String column) {
+        return get(findColumn(column));
+    }
+
+    @Override
+    public int findColumn(String column) {
+        int index = table.index().indexOf(column);
+        return index < 0 ? -1 : index + 1;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object v = value(columnIndex);
+        return v == null ? null : String.valueOf(v);
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        return (int) getLong(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        return columnIndex < 1 ? 0L : table.getLong(row, columnIndex - 1);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        return columnIndex < 1 ? 0.0 : table.getDouble(row, columnIndex - 1);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        if (columnIndex < 1 || table.isNull(row, columnIndex - 1)) {
+            return false;
+        }
+        byte kind = table.index().kind(columnIndex - 1);
+        if (kind != JdbcColumnIndex.KIND_OBJECT) {
+            return table.getLong(row, columnIndex - 1) != 0;
+        }
+        Object v = table.getObject(row, columnIndex - 1);
         if (v instanceof Boolean b) return b;
         if (v instanceof Number n) return n.intValue() != 0;
         return Boolean.parseBoolean(String.valueOf(v));
     }
 
     @Override
-    public Optional<Object> get(String column) {
-        return Optional.ofNullable(values.get(column));
+    public Optional<Object> get(int columnIndex) {
+        return Optional.ofNullable(value(columnIndex));
+    }
+
+    private Object value(int columnIndex) {
+        return columnIndex < 1 ? null : table.getObject(row, columnIndex - 1);
     }
 }
@@ -15,6 +15,7 @@ public final class JdbcTransaction extends JdbcQueryExecutor implements Transact
 
     @Override
     public void commit() {
+        closeOpenCursors();
         try {
             if (rollbackOnly) {
                 connection.rollback();
@@ -28,6 +29,7 @@ public final class JdbcTransaction extends JdbcQueryExecutor implements Transact
 
     @Override
     public void rollback() {
+        closeOpenCursors();
         try {
             rollbackOnly = true;
             connection.rollback();
@@ -0,0 +1,271 @@
+package kr.crownrpg.infra.core.database;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import kr.crownrpg.infra.api.database.SqlIdentifiers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code LOAD DATA LOCAL INFILE} 기반 대량 적재와 같은 형식(탭 구분, {@code \N} = NULL)의 스트리밍 내보내기.
+ * <p>
+ * 적재할 행은 임시 파일 없이 {@link JdbcStatement#setLocalInfileInputStream(InputStream)}으로 넘긴 스트림이
+ * 드라이버가 읽는 만큼만 인코딩한다. 서버가 {@code local_infile}을 허용하지 않으면 행을 읽기 전에 거부되므로
+ * 그 경우에는 배치 INSERT로 대신 적재한다.
+ */
+final class MySqlBulkTransfer {
+
+    /**
+     * 드라이버가 LOCAL INFILE 요청을 보내도록 하되, 스트림을 지정하지 않은 요청은 이 빈 디렉터리 안으로만 제한한다.
+     * 서버가 임의의 클라이언트 파일을 요청하는 것을 막기 위해 {@code allowLoadLocalInfile=true} 대신 사용한다.
+     */
+    static final String LOCAL_INFILE_PATH_PROPERTY = "allowLoadLocalInfileInPath";
+
+    /** ER_CLIENT_LOCAL_FILES_DISABLED: 서버의 local_infile이 꺼져 있다. */
+    private static final int LOCAL_INFILE_DISABLED = 3948;
+    /** ER_NOT_ALLOWED_COMMAND: 구버전 서버의 같은 거부. */
+    private static final int COMMAND_NOT_ALLOWED = 1148;
+    private static final int FALLBACK_BATCH_SIZE = 1000;
+
+    private MySqlBulkTransfer() {
+    }
+
+    static String localInfileSandbox() {
+        Path sandbox = Path.of(System.getProperty("java.io.tmpdir"), "crown-infra-local-infile");
+        try {
+            Files.createDirectories(sandbox);
+        } catch (IOException ignored) {
+            // 디렉터리가 없어도 스트림 적재는 동작하며, 서버발 파일 요청만 실패한다.
+        }
+        return sandbox.toAbsolutePath().toString();
+    }
+
+    /**
+     * @return 적재된 행 수
+     */
+    static long load(Connection connection, String table, List<String> columns, Iterator<Object[]> rows) throws SQLException {
+        Objects.requireNonNull(rows, "rows");
+        String columnList = SqlIdentifiers.quoteList(columns);
+        String sql = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + SqlIdentifiers.quoteTable(table)
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (" + columnList + ")";
+        RowInputStream input = new RowInputStream(rows, columns.size());
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(input);
+            return statement.executeLargeUpdate(sql);
+        } catch (SQLException e) {
+            if (input.rowsRead() == 0 && isLocalInfileRejected(e)) {
+                return insertBatched(connection, table, columnList, columns.size(), rows);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 결과를 한 행씩 읽어 {@code out}에 쓴다. {@code out}은 닫지 않는다.
+     *
+     * @return 내보낸 행 수
+     */
+    static long export(Connection connection, String sql, Object[] params, OutputStream out) throws SQLException, IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+            SqlBinder.bind(statement, params);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData meta = resultSet.getMetaData();
+                int columnCount = meta.getColumnCount();
+                boolean[] binary = new boolean[columnCount + 1];
+                for (int i = 1; i <= columnCount; i++) {
+                    binary[i] = isBinary(meta.getColumnType(i));
+                }
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columnCount; i++) {
+                        if (i > 1) {
+                            buffered.write('\t');
+                        }
+                        byte[] value = binary[i] ? resultSet.getBytes(i) : utf8(resultSet.getString(i));
+                        writeField(buffered, value);
+                    }
+                    buffered.write('\n');
+                    count++;
+                }
+            }
+        }
+        buffered.flush();
+        return count;
+    }
+
+    private static long insertBatched(Connection connection, String table, String columnList, int columnCount,
+                                      Iterator<Object[]> rows) throws SQLException {
+        String sql = "INSERT INTO " + SqlIdentifiers.quoteTable(table) + " (" + columnList + ") VALUES (" + "?, ".repeat(columnCount - 1) + "?)";
+        try {
+            return JdbcBatch.execute(connection, sql, rows, FALLBACK_BATCH_SIZE, SqlBinder::bind).length;
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException("Fallback batch insert failed", e);
+        }
+    }
+
+    private static boolean isLocalInfileRejected(SQLException e) {
+        return e.getErrorCode() == LOCAL_INFILE_DISABLED || e.getErrorCode() == COMMAND_NOT_ALLOWED;
+    }
+
+    private static boolean isBinary(int sqlType) {
+        return sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY || sqlType == Types.BLOB;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * LOAD DATA 기본 이스케이프 규칙으로 값 하나를 쓴다. {@code null}은 {@code \N}.
+     */
+    private static void writeField(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write('\\');
+            out.write('N');
+            return;
+        }
+        for (byte b : value) {
+            switch (b) {
+                case '\\' -> {
+                    out.write('\\');
+                    out.write('\\');
+                }
+                case '\t' -> {
+                    out.write('\\');
+                    out.write('t');
+                }
+                case '\n' -> {
+                    out.write('\\');
+                    out.write('n');
+                }
+                case '\r' -> {
+                    out.write('\\');
+                    out.write('r');
+                }
+                case 0 -> {
+                    out.write('\\');
+                    out.write('0');
+                }
+                default -> out.write(b);
+            }
+        }
+    }
+
+    private static byte[] encode(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (value instanceof Boolean b) {
+            return b ? new byte[]{'1'} : new byte[]{'0'};
+        }
+        if (value instanceof Enum<?> constant) {
+            return utf8(constant.name());
+        }
+        if (value instanceof Instant instant) {
+            // SqlBinder와 같이 JVM 시간대의 Timestamp로 해석한다.
+            return utf8(Timestamp.from(instant).toLocalDateTime().toString().replace('T', ' '));
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return utf8(localDateTime.toString().replace('T', ' '));
+        }
+        return utf8(value.toString());
+    }
+
+    /**
+     * 행 반복자를 드라이버가 읽는 속도에 맞춰 한 행씩 인코딩하는 입력 스트림.
+     */
+    private static final class RowInputStream extends InputStream {
+
+        private final Iterator<Object[]> rows;
+        private final int columnCount;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        private byte[] buffer = new byte[0];
+        private int position;
+        private long rowsRead;
+
+        private RowInputStream(Iterator<Object[]> rows, int columnCount) {
+            this.rows = rows;
+            this.columnCount = columnCount;
+        }
+
+        long rowsRead() {
+            return rowsRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            if (length == 0) {
+                return 0;
+            }
+            int written = 0;
+            while (written < length && fill()) {
+                int chunk = Math.min(length - written, buffer.length - position);
+                System.arraycopy(buffer, position, target, offset + written, chunk);
+                position += chunk;
+                written += chunk;
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        private boolean fill() throws IOException {
+            if (position < buffer.length) {
+                return true;
+            }
+            if (!rows.hasNext()) {
+                return false;
+            }
+            Object[] row = rows.next();
+            if (row == null || row.length != columnCount) {
+                throw new IOException("Row " + (rowsRead + 1) + " has " + (row == null ? 0 : row.length)
+                        + " values, expected " + columnCount);
+            }
+            line.reset();
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    line.write('\t');
+                }
+                writeField(line, encode(row[i]));
+            }
+            line.write('\n');
+            buffer = line.toByteArray();
+            position = 0;
+            rowsRead++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kr.crownrpg.infra.core.database;
+
+import com.zaxxer.hikari.HikariConfig;
+
+/**
+ * 두 Hikari 풀({@link HikariDatabaseService}, {@link HikariConnectionProvider})이 공유하는 MySQL 드라이버 기본 설정.
+ * 사용자 설정은 이 값들을 적용한 뒤에 덮어쓴다.
+ */
+final class MySqlDataSourceProperties {
+
+    private MySqlDataSourceProperties() {
+    }
+
+    static void apply(HikariConfig config) {
+        // 드라이버 수준 PreparedStatement 캐시 + 서버 측 prepare
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        // 불필요한 왕복 제거
+        config.addDataSourceProperty("useLocalSessionState", "true");
+        config.addDataSourceProperty("cacheResultSetMetadata", "true");
+        config.addDataSourceProperty("cacheServerConfiguration", "true");
+        config.addDataSourceProperty("elideSetAutoCommits", "true");
+        config.addDataSourceProperty("maintainTimeStats", "false");
+        // 배치가 다중 행 INSERT로 합쳐지도록 한다.
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        // 양수 fetchSize 스트리밍 쿼리가 서버 커서를 사용하도록 한다.
+        config.addDataSourceProperty("useCursorFetch", "true");
+    }
+}
@@ -0,0 +1,22 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+
+/**
+ * 버전 조건부 UPDATE가 재시도 횟수 안에 한 번도 성공하지 못했을 때 발생한다.
+ */
+public class OptimisticLockException extends DatabaseException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int attempts;
+
+    public OptimisticLockException(String message, int attempts) {
+        super(message);
+        this.attempts = attempts;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+}
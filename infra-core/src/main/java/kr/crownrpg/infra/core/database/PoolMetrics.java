@@ -0,0 +1,29 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+
+/**
+ * 프라이머리 커넥션 풀 상태 스냅샷.
+ *
+ * @param active             사용 중인 커넥션 수
+ * @param idle               유휴 커넥션 수
+ * @param total              풀이 보유한 전체 커넥션 수
+ * @param pendingThreads     커넥션을 기다리는 스레드 수
+ * @param maximumPoolSize    현재 최대 풀 크기 (적응형 조정 시 변한다)
+ * @param connectionTimeouts 커넥션 획득 타임아웃 누적 횟수
+ * @param acquire            커넥션 획득 대기 시간 분포
+ * @param usage              커넥션 점유 시간(획득부터 반환까지) 분포
+ */
+public record PoolMetrics(int active,
+                          int idle,
+                          int total,
+                          int pendingThreads,
+                          int maximumPoolSize,
+                          long connectionTimeouts,
+                          LatencyHistogram.Snapshot acquire,
+                          LatencyHistogram.Snapshot usage) {
+
+    public double utilization() {
+        return maximumPoolSize == 0 ? 0.0 : (double) active / maximumPoolSize;
+    }
+}
@@ -0,0 +1,92 @@
+package kr.crownrpg.infra.core.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 풀에서 커넥션을 동시에 여러 개 빌려 물리 커넥션 생성, 검증, hot statement prepare를 트래픽 전에 끝낸다.
+ * <p>
+ * 모든 작업이 커넥션을 빌린 채로 서로를 기다렸다가 반환하므로 같은 커넥션이 재사용되지 않고 요청한 수만큼 열린다.
+ * {@code cachePrepStmts}/{@code useServerPrepStmts}가 켜져 있으면 닫은 statement는 드라이버 캐시에 남는다.
+ */
+final class PoolWarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolWarmer.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private PoolWarmer() {
+    }
+
+    static WarmUpReport warmUp(DataSource dataSource, int connections, List<String> hotStatements, long timeoutNanos) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        CountDownLatch allHeld = new CountDownLatch(connections);
+        CountDownLatch finished = new CountDownLatch(connections);
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger prepared = new AtomicInteger();
+        ExecutorService workers = ThreadFactories.fixed(connections, "crown-db-warmup");
+        try {
+            for (int i = 0; i < connections; i++) {
+                workers.execute(() -> {
+                    try {
+                        warmOne(dataSource, hotStatements, allHeld, deadline, opened, prepared);
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            }
+            if (!finished.await(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                LOGGER.warn("커넥션 예열 시간 초과 - {}/{}개만 준비되었습니다", opened.get(), connections);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+        }
+        return new WarmUpReport(connections, opened.get(), prepared.get(), System.nanoTime() - start);
+    }
+
+    private static void warmOne(DataSource dataSource, List<String> hotStatements, CountDownLatch allHeld, long deadline,
+                                AtomicInteger opened, AtomicInteger prepared) {
+        boolean counted = false;
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                LOGGER.warn("예열 중 커넥션 검증 실패");
+                return;
+            }
+            for (String sql : hotStatements) {
+                try {
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.close();
+                    prepared.incrementAndGet();
+                } catch (SQLException e) {
+                    LOGGER.warn("hot statement prepare 실패: {}", sql, e);
+                }
+            }
+            connection.rollback();
+            opened.incrementAndGet();
+            allHeld.countDown();
+            counted = true;
+            // 다른 작업이 모두 커넥션을 잡을 때까지 반환을 미뤄 서로 다른 물리 커넥션을 열게 한다.
+            allHeld.await(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (SQLException e) {
+            LOGGER.warn("예열 커넥션 획득 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!counted) {
+                allHeld.countDown();
+            }
+        }
+    }
+}
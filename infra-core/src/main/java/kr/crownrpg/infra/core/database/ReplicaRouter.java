@@ -0,0 +1,150 @@
+package kr.crownrpg.infra.core.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import kr.crownrpg.infra.api.database.DatabaseEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 읽기 전용 레플리카 풀 묶음과 최소 진행 요청(least-outstanding) 선택기.
+ * <p>
+ * 레플리카마다 진행 중인 트랜잭션 수를 세고, 가장 적은 풀을 고른다. 동률이면 임의 시작점에서 순회해 부하를 흩뜨린다.
+ * 커넥션 획득에 실패한 레플리카는 제외했다가 헬스 체크 루프의 검증을 통과하면 다시 사용한다.
+ */
+final class ReplicaRouter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final List<Replica> replicas;
+
+    private ReplicaRouter(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    static ReplicaRouter create(List<DatabaseEndpoint> endpoints, Function<DatabaseEndpoint, HikariConfig> configFactory) {
+        List<Replica> replicas = new ArrayList<>(endpoints.size());
+        for (DatabaseEndpoint endpoint : endpoints) {
+            HikariConfig hikariConfig = configFactory.apply(endpoint);
+            hikariConfig.setReadOnly(true);
+            // 레플리카가 내려가 있어도 서비스 시작을 막지 않는다. 상태는 첫 사용과 헬스 체크로 판단한다.
+            hikariConfig.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(endpoint, new HikariDataSource(hikariConfig)));
+        }
+        if (!replicas.isEmpty()) {
+            LOGGER.info("읽기 레플리카 {}개를 등록했습니다: {}", replicas.size(), endpoints);
+        }
+        return new ReplicaRouter(List.copyOf(replicas));
+    }
+
+    boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    /**
+     * 정상 레플리카 중 진행 요청이 가장 적은 것을 골라 카운터를 올린다. 없으면 {@code null}.
+     * 반환된 레플리카는 반드시 {@link #release(Replica)}로 돌려줘야 한다.
+     */
+    Replica acquire() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+        Replica best = null;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (!candidate.healthy) {
+                continue;
+            }
+            int load = candidate.outstanding.get();
+            if (load < bestLoad) {
+                best = candidate;
+                bestLoad = load;
+            }
+        }
+        if (best != null) {
+            best.outstanding.incrementAndGet();
+        }
+        return best;
+    }
+
+    void release(Replica replica) {
+        replica.outstanding.decrementAndGet();
+    }
+
+    void markUnhealthy(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            LOGGER.warn("레플리카 {} 커넥션 실패 - 복구될 때까지 프라이머리로 읽기를 보냅니다", replica.endpoint, cause);
+        }
+    }
+
+    /**
+     * 제외된 레플리카에 검증 커넥션을 시도해 복구 여부를 확인한다. 헬스 체크 스레드에서 호출한다.
+     */
+    void probeUnhealthy() {
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                continue;
+            }
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.healthy = true;
+                    LOGGER.info("레플리카 {} 연결이 복구되었습니다", replica.endpoint);
+                }
+            } catch (Exception e) {
+                LOGGER.debug("레플리카 {} 복구 검증 실패", replica.endpoint, e);
+            }
+        }
+    }
+
+    /**
+     * 레플리카별 진행 중인 요청 수 (비정상 레플리카는 -1).
+     */
+    Map<String, Integer> loadSnapshot() {
+        Map<String, Integer> snapshot = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            snapshot.put(replica.endpoint.toString(), replica.healthy ? replica.outstanding.get() : -1);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    static final class Replica {
+
+        private final DatabaseEndpoint endpoint;
+        private final HikariDataSource dataSource;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        private Replica(DatabaseEndpoint endpoint, HikariDataSource dataSource) {
+            this.endpoint = endpoint;
+            this.dataSource = dataSource;
+        }
+
+        HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        DatabaseEndpoint endpoint() {
+            return endpoint;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseClient;
+import kr.crownrpg.infra.api.database.QueryExecutor;
+import kr.crownrpg.infra.api.database.Transaction;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link HikariDatabaseService}의 풀과 비동기 실행기를 그대로 쓰는 {@link DatabaseClient}.
+ *
+ * - query(...) : 커넥션 1회 사용 후 커밋 (풀이 autoCommit=false이므로 읽기도 트랜잭션을 닫는다)
+ * - transaction(...) : {@link JdbcTransaction} 스코프, rollback() 호출 시 롤백
+ * - close() : 서비스가 수명주기를 소유하므로 아무 것도 하지 않는다
+ */
+final class ServiceDatabaseClient implements DatabaseClient {
+
+    private final HikariDatabaseService service;
+
+    ServiceDatabaseClient(HikariDatabaseService service) {
+        this.service = Objects.requireNonNull(service, "service");
+    }
+
+    @Override
+    public <T> CompletableFuture<T> query(Function<QueryExecutor, T> action) {
+        Objects.requireNonNull(action, "action");
+        return service.submit(() -> service.withConnection(connection -> {
+            JdbcQueryExecutor executor = new JdbcQueryExecutor(connection);
+            T result;
+            try {
+                result = action.apply(executor);
+            } finally {
+                executor.closeOpenCursors();
+            }
+            connection.commit();
+            return result;
+        }));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> transaction(Function<Transaction, T> action) {
+        Objects.requireNonNull(action, "action");
+        return service.submit(() -> service.withConnection(connection -> {
+            JdbcTransaction tx = new JdbcTransaction(connection);
+            T result = action.apply(tx);
+            // 유저가 rollback() 호출했으면 rollback
+            if (tx.isRollbackOnly()) {
+                tx.rollback();
+            } else {
+                tx.commit();
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public void close() {
+        // 풀은 HikariDatabaseService.stop()에서 닫힌다.
+    }
+}
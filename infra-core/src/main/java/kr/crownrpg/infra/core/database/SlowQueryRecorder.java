@@ -0,0 +1,246 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 문장 단위 실행 시간을 SQL 지문(fingerprint)별로 집계한다.
+ * <p>
+ * 지문은 리터럴을 {@code ?}로, {@code IN (?, ?, ?)} 같은 목록을 {@code (?+)}로 접고 공백과 대소문자를 정규화한 SQL이다.
+ * 지문 수는 {@code maxFingerprints}로 제한되며 넘치는 문장은 {@value #OVERFLOW_FINGERPRINT} 항목에 합산된다.
+ * 임계값을 넘긴 문장은 경고 로그로 남기므로 MySQL slow log 없이도 어떤 쿼리가 풀을 점유하는지 알 수 있다.
+ */
+public final class SlowQueryRecorder {
+
+    /** 지문 수 한도를 넘은 문장이 모이는 항목. */
+    public static final String OVERFLOW_FINGERPRINT = "<other>";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryRecorder.class);
+    private static final int FINGERPRINT_CACHE_LIMIT = 4096;
+    private static final int SAMPLE_SQL_LIMIT = 512;
+    private static final Pattern VALUE_LIST = Pattern.compile("\\( ?\\?(?: ?, ?\\?)+ ?\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\+\\)(?: ?, ?\\(\\?\\+\\))+");
+
+    private final long thresholdNanos;
+    private final int maxFingerprints;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param threshold       이 시간 이상 걸린 문장을 느린 쿼리로 센다 (0이면 느린 쿼리 판정과 경고를 끈다)
+     * @param maxFingerprints 따로 집계할 최대 지문 수
+     */
+    public SlowQueryRecorder(Duration threshold, int maxFingerprints) {
+        this.thresholdNanos = threshold == null || threshold.isNegative() ? 0L : threshold.toNanos();
+        this.maxFingerprints = Math.max(1, maxFingerprints);
+    }
+
+    /**
+     * @param sql      실행한 SQL 원문
+     * @param nanos    실행 시간 (결과 읽기 포함)
+     * @param timedOut statement 타임아웃으로 취소되었는지 여부
+     */
+    public void record(String sql, long nanos, boolean timedOut) {
+        String fingerprint = fingerprintOf(sql);
+        Entry entry = entryFor(fingerprint, sql);
+        entry.latency.record(nanos);
+        entry.totalNanos.add(nanos);
+        if (timedOut) {
+            entry.timeouts.increment();
+            LOGGER.warn("쿼리 타임아웃 ({}ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), fingerprint);
+        } else if (thresholdNanos > 0 && nanos >= thresholdNanos) {
+            entry.slowCount.increment();
+            LOGGER.warn("느린 쿼리 {}ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), fingerprint);
+        }
+    }
+
+    /**
+     * 누적 실행 시간이 큰 순서로 최대 {@code limit}개 지문.
+     */
+    public List<QueryStats> top(int limit) {
+        return top(limit, Comparator.comparingLong(QueryStats::totalNanos).reversed());
+    }
+
+    /**
+     * {@code order} 순서로 최대 {@code limit}개 지문. 예: p99 기준이면 {@code comparing(s -> s.latency().p99Nanos())}.
+     */
+    public List<QueryStats> top(int limit, Comparator<QueryStats> order) {
+        List<QueryStats> all = snapshot();
+        all.sort(order);
+        return all.size() <= limit ? all : new ArrayList<>(all.subList(0, Math.max(0, limit)));
+    }
+
+    public List<QueryStats> snapshot() {
+        List<QueryStats> stats = new ArrayList<>(entries.size());
+        entries.forEach((fingerprint, entry) -> stats.add(new QueryStats(fingerprint, entry.sampleSql,
+                entry.latency.count(), entry.slowCount.sum(), entry.timeouts.sum(), entry.totalNanos.sum(),
+                entry.latency.snapshot())));
+        return stats;
+    }
+
+    public int fingerprintCount() {
+        return entries.size();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private Entry entryFor(String fingerprint, String sql) {
+        Entry entry = entries.get(fingerprint);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() >= maxFingerprints) {
+            return entries.computeIfAbsent(OVERFLOW_FINGERPRINT, key -> new Entry(OVERFLOW_FINGERPRINT));
+        }
+        return entries.computeIfAbsent(fingerprint, key -> new Entry(sql));
+    }
+
+    private String fingerprintOf(String sql) {
+        String cached = fingerprintCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = fingerprint(sql);
+        if (fingerprintCache.size() >= FINGERPRINT_CACHE_LIMIT) {
+            // 리터럴이 박힌 SQL이 캐시를 채우는 경우: 비우고 다시 채운다.
+            fingerprintCache.clear();
+        }
+        fingerprintCache.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * 문자열·숫자 리터럴과 주석을 제거하고, 값 목록을 접고, 공백을 한 칸으로 줄인 소문자 SQL.
+     */
+    static String fingerprint(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = skipQuoted(sql, i, c);
+                out.append('?');
+            } else if (c == '`') {
+                int end = sql.indexOf('`', i + 1);
+                end = end < 0 ? length : end + 1;
+                out.append(sql, i, end);
+                i = end;
+            } else if ((c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') || c == '#') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                i = skipNumber(sql, i);
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                if (!out.isEmpty() && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+                i++;
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        return collapseLists(out.toString().trim());
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static int skipNumber(String sql, int start) {
+        int i = start;
+        if (sql.startsWith("0x", i) || sql.startsWith("0X", i)) {
+            i += 2;
+        }
+        while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    /**
+     * {@code (?, ?, ?)} → {@code (?+)}, 이어지는 {@code (?+), (?+)} → {@code (?+)}.
+     */
+    private static String collapseLists(String sql) {
+        String collapsed = VALUE_LIST.matcher(sql).replaceAll("(?+)");
+        return ROW_LIST.matcher(collapsed).replaceAll("(?+)");
+    }
+
+    /**
+     * 지문 하나의 누적 집계.
+     *
+     * @param fingerprint 정규화한 SQL
+     * @param sampleSql   처음 관측된 SQL 원문 (최대 512자)
+     * @param count       실행 횟수
+     * @param slowCount   임계값을 넘긴 실행 횟수
+     * @param timeouts    statement 타임아웃으로 취소된 횟수
+     * @param totalNanos  누적 실행 시간
+     * @param latency     실행 시간 분포
+     */
+    public record QueryStats(String fingerprint,
+                             String sampleSql,
+                             long count,
+                             long slowCount,
+                             long timeouts,
+                             long totalNanos,
+                             LatencyHistogram.Snapshot latency) {
+
+        @Override
+        public String toString() {
+            return String.format("%s total=%.1fms slow=%d timeouts=%d %s", fingerprint, totalNanos / 1e6, slowCount, timeouts, latency);
+        }
+    }
+
+    private static final class Entry {
+        private final String sampleSql;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Entry(String sql) {
+            this.sampleSql = sql.length() <= SAMPLE_SQL_LIMIT ? sql : sql.substring(0, SAMPLE_SQL_LIMIT);
+        }
+    }
+}
@@ -1,24 +1,94 @@
 package kr.crownrpg.infra.core.database;
 
+import kr.crownrpg.infra.api.database.Params;
+
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
+/**
+ * {@link JdbcDbSession}과 {@link JdbcQueryExecutor}가 공유하는 파라미터 바인더.
+ * <p>
+ * 값의 타입에 맞는 전용 setter({@code setLong}, {@code setString} 등)를 사용하고, {@link Params}의 primitive 값은
+ * 박싱 없이 바인딩한다. 타입이 있는 null은 해당 SQL 타입으로 바인딩한다.
+ */
 public final class SqlBinder {
 
     private SqlBinder() {}
 
-    public static void bind(PreparedStatement ps, Object... params) throws Exception {
+    public static void bind(PreparedStatement ps, Object... params) throws SQLException {
         if (params == null || params.length == 0) return;
 
         for (int i = 0; i < params.length; i++) {
-            Object p = params[i];
+            bindValue(ps, i + 1, params[i]);
+        }
+    }
 
-            // Instant -> Timestamp 변환 편의
-            if (p instanceof Instant ins) {
-                p = Timestamp.from(ins);
+    public static void bind(PreparedStatement ps, Params params) throws SQLException {
+        if (params == null) return;
+
+        for (int i = 0; i < params.size(); i++) {
+            int index = i + 1;
+            switch (params.kind(i)) {
+                case INT -> ps.setInt(index, (int) params.longAt(i));
+                case LONG -> ps.setLong(index, params.longAt(i));
+                case DOUBLE -> ps.setDouble(index, params.doubleAt(i));
+                case BOOLEAN -> ps.setBoolean(index, params.longAt(i) != 0);
+                case STRING -> ps.setString(index, (String) params.refAt(i));
+                case NULL -> ps.setNull(index, sqlTypeOf((Class<?>) params.refAt(i)));
+                default -> bindValue(ps, index, params.refAt(i));
             }
-            ps.setObject(i + 1, p);
         }
     }
+
+    static void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.NULL);
+        } else if (value instanceof String s) {
+            ps.setString(index, s);
+        } else if (value instanceof Long l) {
+            ps.setLong(index, l);
+        } else if (value instanceof Integer n) {
+            ps.setInt(index, n);
+        } else if (value instanceof Double d) {
+            ps.setDouble(index, d);
+        } else if (value instanceof Boolean b) {
+            ps.setBoolean(index, b);
+        } else if (value instanceof Instant ins) {
+            // Instant -> Timestamp 변환 편의
+            ps.setTimestamp(index, Timestamp.from(ins));
+        } else if (value instanceof LocalDateTime localDateTime) {
+            ps.setTimestamp(index, Timestamp.valueOf(localDateTime));
+        } else if (value instanceof LocalDate localDate) {
+            ps.setDate(index, Date.valueOf(localDate));
+        } else if (value instanceof UUID uuid) {
+            ps.setString(index, uuid.toString());
+        } else if (value instanceof Enum<?> constant) {
+            ps.setString(index, constant.name());
+        } else if (value instanceof byte[] bytes) {
+            ps.setBytes(index, bytes);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    static int sqlTypeOf(Class<?> type) {
+        if (type == String.class || type == UUID.class || (type != null && type.isEnum())) return Types.VARCHAR;
+        if (type == Long.class || type == long.class) return Types.BIGINT;
+        if (type == Integer.class || type == int.class) return Types.INTEGER;
+        if (type == Double.class || type == double.class) return Types.DOUBLE;
+        if (type == Boolean.class || type == boolean.class) return Types.BOOLEAN;
+        if (type == BigDecimal.class) return Types.DECIMAL;
+        if (type == Instant.class || type == LocalDateTime.class) return Types.TIMESTAMP;
+        if (type == LocalDate.class) return Types.DATE;
+        if (type == byte[].class) return Types.VARBINARY;
+        return Types.NULL;
+    }
 }
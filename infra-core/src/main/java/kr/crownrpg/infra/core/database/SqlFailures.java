@@ -0,0 +1,74 @@
+package kr.crownrpg.infra.core.database;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 예외가 데이터베이스 연결 자체의 장애인지, 개별 쿼리 오류인지 구분한다.
+ */
+final class SqlFailures {
+
+    /** SQLSTATE class 08: connection exception. */
+    private static final String CONNECTION_STATE_CLASS = "08";
+    /** SQLSTATE class 40: transaction rollback. */
+    private static final String ROLLBACK_STATE_CLASS = "40";
+    private static final int ER_LOCK_DEADLOCK = 1213;
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private SqlFailures() {
+    }
+
+    /**
+     * 원인 체인에 연결 수준 장애(연결 끊김, 획득 타임아웃, 통신 오류)가 있으면 {@code true}.
+     * 문법 오류, 제약 조건 위반, 잠금 대기 초과 같은 쿼리 오류는 {@code false}.
+     */
+    static boolean isConnectionFailure(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof SQLTransientConnectionException
+                    || current instanceof SQLNonTransientConnectionException
+                    || current instanceof SQLRecoverableException
+                    || current instanceof IOException) {
+                return true;
+            }
+            if (current instanceof SQLException sql) {
+                String sqlState = sql.getSQLState();
+                if (sqlState != null && sqlState.startsWith(CONNECTION_STATE_CLASS)) {
+                    return true;
+                }
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 트랜잭션을 처음부터 다시 실행하면 성공할 수 있는 경합성 실패(데드락, 잠금 대기 초과)의 원인.
+     * 재시도 대상이 아니면 {@code null}.
+     */
+    static TransactionRetryStats.Cause retryableCause(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof SQLException sql) {
+                if (sql.getErrorCode() == ER_LOCK_DEADLOCK) {
+                    return TransactionRetryStats.Cause.DEADLOCK;
+                }
+                if (sql.getErrorCode() == ER_LOCK_WAIT_TIMEOUT) {
+                    return TransactionRetryStats.Cause.LOCK_WAIT_TIMEOUT;
+                }
+                String sqlState = sql.getSQLState();
+                if (sql instanceof SQLTransactionRollbackException
+                        || (sqlState != null && sqlState.startsWith(ROLLBACK_STATE_CLASS))) {
+                    return TransactionRetryStats.Cause.SERIALIZATION_FAILURE;
+                }
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return null;
+    }
+}
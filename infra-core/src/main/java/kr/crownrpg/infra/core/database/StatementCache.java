@@ -0,0 +1,78 @@
+package kr.crownrpg.infra.core.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션(커넥션 대여) 범위의 SQL → PreparedStatement LRU 캐시.
+ * <p>
+ * 같은 SQL을 반복 실행할 때 prepare 왕복과 파싱을 생략한다. 단일 스레드(세션 소유 스레드)에서만 사용하며,
+ * 세션을 닫을 때 남은 statement를 모두 닫는다.
+ */
+final class StatementCache implements AutoCloseable {
+
+    private final Connection connection;
+    private final StatementCacheStats stats;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    StatementCache(Connection connection, int capacity, StatementCacheStats stats) {
+        this.connection = connection;
+        this.stats = stats;
+        int maxSize = Math.max(1, capacity);
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                closeQuietly(eldest.getValue());
+                stats.recordEviction();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 statement를 파라미터를 비운 상태로 꺼내거나 새로 prepare한다.
+     * 꺼낸 statement는 사용 중 캐시에서 빠져 있으므로 매퍼 안에서 같은 SQL을 중첩 실행해도 충돌하지 않는다.
+     * 사용이 끝나면 {@link #release(String, PreparedStatement)}로 돌려주고, 오류가 났으면 대신 닫는다.
+     */
+    PreparedStatement acquire(String sql) throws SQLException {
+        PreparedStatement cached = statements.remove(sql);
+        if (cached != null && !cached.isClosed()) {
+            cached.clearParameters();
+            stats.recordHit();
+            return cached;
+        }
+        stats.recordMiss();
+        return connection.prepareStatement(sql);
+    }
+
+    void release(String sql, PreparedStatement statement) {
+        PreparedStatement previous = statements.put(sql, statement);
+        if (previous != null && previous != statement) {
+            closeQuietly(previous);
+        }
+    }
+
+    static void discard(PreparedStatement statement) {
+        closeQuietly(statement);
+    }
+
+    @Override
+    public void close() {
+        statements.values().forEach(StatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kr.crownrpg.infra.core.database;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션 단위 PreparedStatement 캐시의 누적 적중/미스 통계. 여러 세션이 동시에 갱신한다.
+ */
+public final class StatementCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d evictions=%d hitRatio=%.2f", hits(), misses(), evictions(), hitRatio());
+    }
+}
@@ -0,0 +1,59 @@
+package kr.crownrpg.infra.core.database;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 데드락·잠금 대기 초과로 롤백된 트랜잭션을 다시 실행하는 정책.
+ * <p>
+ * 재시도 간격에는 decorrelated jitter({@code min(max, random(initial, previous * 3))})를 적용해
+ * 같은 행을 두고 경쟁한 트랜잭션들이 동시에 다시 부딪히지 않도록 한다.
+ */
+public final class TransactionRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * @param maxAttempts    최초 실행을 포함한 최대 실행 횟수 (1이면 재시도하지 않는다)
+     * @param initialBackoff 첫 재시도 전 최소 대기 시간
+     * @param maxBackoff     재시도 간 최대 대기 시간
+     */
+    public TransactionRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff == null || initialBackoff.isNegative() ? Duration.ZERO : initialBackoff;
+        this.maxBackoff = maxBackoff == null || maxBackoff.compareTo(this.initialBackoff) < 0 ? this.initialBackoff : maxBackoff;
+    }
+
+    public static TransactionRetryPolicy defaults() {
+        return new TransactionRetryPolicy(4, Duration.ofMillis(10), Duration.ofMillis(250));
+    }
+
+    public static TransactionRetryPolicy none() {
+        return new TransactionRetryPolicy(1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration initialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration maxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @param previousNanos 직전 대기 시간 (첫 재시도면 0)
+     * @return 다음 재시도 전 대기 시간 (나노초)
+     */
+    long nextBackoffNanos(long previousNanos) {
+        long base = initialBackoff.toNanos();
+        long cap = maxBackoff.toNanos();
+        long upper = Math.min(cap, Math.max(base, previousNanos) * 3);
+        return upper <= base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+    }
+}
@@ -0,0 +1,84 @@
+package kr.crownrpg.infra.core.database;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 원인별 트랜잭션 재시도 누적 통계. 여러 스레드가 동시에 갱신한다.
+ */
+public final class TransactionRetryStats {
+
+    /**
+     * 재시도할 수 있는 트랜잭션 실패 원인.
+     */
+    public enum Cause {
+        /** MySQL 1213, 데드락으로 선택되어 롤백됨. */
+        DEADLOCK,
+        /** MySQL 1205, innodb_lock_wait_timeout 초과. */
+        LOCK_WAIT_TIMEOUT,
+        /** 그 밖의 SQLSTATE 40xxx 트랜잭션 롤백. */
+        SERIALIZATION_FAILURE
+    }
+
+    private final Map<Cause, Counters> counters = new EnumMap<>(Cause.class);
+
+    TransactionRetryStats() {
+        for (Cause cause : Cause.values()) {
+            counters.put(cause, new Counters());
+        }
+    }
+
+    void recordRetry(Cause cause) {
+        counters.get(cause).retries.increment();
+    }
+
+    void recordRecovered(Cause cause) {
+        counters.get(cause).recovered.increment();
+    }
+
+    void recordExhausted(Cause cause) {
+        counters.get(cause).exhausted.increment();
+    }
+
+    /**
+     * 해당 원인으로 다시 실행한 횟수.
+     */
+    public long retries(Cause cause) {
+        return counters.get(cause).retries.sum();
+    }
+
+    /**
+     * 해당 원인으로 재시도한 뒤 결국 커밋된 트랜잭션 수.
+     */
+    public long recovered(Cause cause) {
+        return counters.get(cause).recovered.sum();
+    }
+
+    /**
+     * 재시도 횟수를 모두 소진해 실패한 트랜잭션 수.
+     */
+    public long exhausted(Cause cause) {
+        return counters.get(cause).exhausted.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Cause cause : Cause.values()) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(cause.name().toLowerCase()).append("=[retries=").append(retries(cause))
+                    .append(" recovered=").append(recovered(cause))
+                    .append(" exhausted=").append(exhausted(cause)).append(']');
+        }
+        return builder.toString();
+    }
+
+    private static final class Counters {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder recovered = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+}
@@ -0,0 +1,387 @@
+package kr.crownrpg.infra.core.database;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결과 컬럼을 record 컴포넌트 또는 POJO 필드에 바인딩하는 매퍼. (SQL, 타입) 조합마다 한 번만 컴파일해 캐시한다.
+ * <p>
+ * 컴파일 시 컬럼 라벨을 이름으로 매칭(정확히 일치 → 대소문자 무시 → {@code snake_case}를 {@code camelCase}로 변환)하고,
+ * 각 컬럼의 JDBC getter를 컬럼 인덱스가 고정된 {@link MethodHandle}로 만들어 생성자/setter에 직접 연결한다.
+ * 따라서 행마다 라벨 조회나 리플렉션이 없고, primitive 컴포넌트는 박싱 없이 전달된다.
+ * <ul>
+ *     <li>record: 모든 컴포넌트에 대응하는 컬럼이 있어야 한다. 남는 컬럼은 무시한다.</li>
+ *     <li>POJO: 인자 없는 생성자가 필요하며, static/final이 아닌 필드 중 컬럼이 있는 것만 채운다.</li>
+ *     <li>SQL NULL은 primitive 컴포넌트/필드에 0이나 {@code false}로 바꿔 넣지 않고 {@link SQLException}으로 거부한다.
+ *         NULL이 올 수 있는 컬럼은 박싱 타입({@code Integer}, {@code Long} 등)으로 선언한다.</li>
+ * </ul>
+ * 캐시는 {@link ClassValue}로 대상 클래스에 붙어 있으므로, 플러그인 재로드로 클래스로더가 버려지면 매퍼도 함께 수거된다.
+ */
+final class TypedRowMapper<T> {
+
+    private static final int MAX_CACHED_SHAPES = 1024;
+    /** 대상 클래스 → (SQL → 매퍼). 클래스를 강하게 잡는 정적 맵 대신 클래스 자체에 저장한다. */
+    private static final ClassValue<Map<String, TypedRowMapper<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, TypedRowMapper<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<Class<?>, MethodHandle> READERS = createReaders();
+    private static final MethodHandle POPULATE;
+
+    static {
+        try {
+            POPULATE = LOOKUP.findStatic(TypedRowMapper.class, "populate",
+                    MethodType.methodType(Object.class, MethodHandle.class, MethodHandle[].class, ResultSet.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<T> type;
+    /** (ResultSet)Object */
+    private final MethodHandle factory;
+
+    private TypedRowMapper(Class<T> type, MethodHandle factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    /**
+     * 캐시된 매퍼를 반환한다. 캐시 미스일 때만 결과 메타데이터를 읽어 컴파일한다.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> TypedRowMapper<T> forQuery(String sql, Class<T> type, ResultSet resultSet) throws SQLException {
+        Map<String, TypedRowMapper<?>> shapes = CACHE.get(type);
+        TypedRowMapper<?> cached = shapes.get(sql);
+        if (cached != null) {
+            return (TypedRowMapper<T>) cached;
+        }
+        TypedRowMapper<T> compiled = compile(type, resultSet.getMetaData());
+        if (shapes.size() >= MAX_CACHED_SHAPES) {
+            // 동적으로 조립한 SQL이 캐시를 무한히 키우지 않도록 한도를 넘으면 비운다.
+            shapes.clear();
+        }
+        shapes.putIfAbsent(sql, compiled);
+        return compiled;
+    }
+
+    T map(ResultSet resultSet) throws SQLException {
+        try {
+            return type.cast((Object) factory.invokeExact(resultSet));
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to map row to " + type.getName(), t);
+        }
+    }
+
+    static <T> TypedRowMapper<T> compile(Class<T> type, ResultSetMetaData metaData) throws SQLException {
+        Objects.requireNonNull(type, "type");
+        Map<String, Integer> columns = columnIndex(metaData);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            MethodHandle factory = type.isRecord()
+                    ? compileRecord(type, columns, lookup)
+                    : compilePojo(type, columns, lookup);
+            return new TypedRowMapper<>(type, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot build row mapper for " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle compileRecord(Class<?> type, Map<String, Integer> columns, MethodHandles.Lookup lookup)
+            throws ReflectiveOperationException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        MethodHandle[] readers = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            parameterTypes[i] = component.getType();
+            Integer column = resolve(columns, component.getName());
+            if (column == null) {
+                throw new IllegalArgumentException("No column for record component '" + component.getName() + "' of " + type.getName()
+                        + " (columns: " + columns.keySet() + ")");
+            }
+            readers[i] = reader(component.getType(), column);
+        }
+        Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+        if (components.length == 0) {
+            return MethodHandles.dropArguments(handle, 0, ResultSet.class).asType(MethodType.methodType(Object.class, ResultSet.class));
+        }
+        // (ResultSet, ResultSet, ...)T → (ResultSet)T : 모든 reader가 같은 ResultSet을 받는다.
+        MethodHandle filtered = MethodHandles.filterArguments(handle, 0, readers);
+        MethodHandle single = MethodHandles.permuteArguments(filtered, MethodType.methodType(type, ResultSet.class), new int[components.length]);
+        return single.asType(MethodType.methodType(Object.class, ResultSet.class));
+    }
+
+    private static MethodHandle compilePojo(Class<?> type, Map<String, Integer> columns, MethodHandles.Lookup lookup)
+            throws ReflectiveOperationException {
+        MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+        List<MethodHandle> setters = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            MethodHandles.Lookup fieldLookup = current == type ? lookup : MethodHandles.privateLookupIn(current, LOOKUP);
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                Integer column = resolve(columns, field.getName());
+                if (column == null) {
+                    continue;
+                }
+                // (Object, ResultSet)void
+                MethodHandle setter = MethodHandles.filterArguments(fieldLookup.unreflectSetter(field), 1, reader(field.getType(), column));
+                setters.add(setter.asType(MethodType.methodType(void.class, Object.class, ResultSet.class)));
+            }
+        }
+        if (setters.isEmpty()) {
+            throw new IllegalArgumentException("No column matches any field of " + type.getName() + " (columns: " + columns.keySet() + ")");
+        }
+        return MethodHandles.insertArguments(POPULATE, 0, constructor, setters.toArray(MethodHandle[]::new));
+    }
+
+    private static Object populate(MethodHandle constructor, MethodHandle[] setters, ResultSet resultSet) throws Throwable {
+        Object target = (Object) constructor.invokeExact();
+        for (MethodHandle setter : setters) {
+            setter.invokeExact(target, resultSet);
+        }
+        return target;
+    }
+
+    /**
+     * 라벨(소문자) → 1-based 인덱스. 같은 라벨이 여러 번 나오면 첫 번째를 쓴다.
+     */
+    private static Map<String, Integer> columnIndex(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        Map<String, Integer> columns = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            String label = metaData.getColumnLabel(i);
+            columns.putIfAbsent(label.toLowerCase(Locale.ROOT), i);
+            columns.putIfAbsent(label.replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    private static Integer resolve(Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name.toLowerCase(Locale.ROOT));
+        return column != null ? column : columns.get(name.replace("_", "").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 컬럼 인덱스를 고정한 {@code (ResultSet)target} getter.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static MethodHandle reader(Class<?> target, int column) throws ReflectiveOperationException {
+        MethodHandle base = READERS.get(target);
+        if (base != null) {
+            return MethodHandles.insertArguments(base, 1, column);
+        }
+        if (target.isEnum()) {
+            MethodHandle readEnum = LOOKUP.findStatic(TypedRowMapper.class, "readEnum",
+                    MethodType.methodType(Enum.class, ResultSet.class, int.class, Class.class));
+            return MethodHandles.insertArguments(readEnum, 1, column, (Class) target).asType(MethodType.methodType(target, ResultSet.class));
+        }
+        MethodHandle readObject = LOOKUP.findStatic(TypedRowMapper.class, "readObject",
+                MethodType.methodType(Object.class, ResultSet.class, int.class, Class.class));
+        return MethodHandles.insertArguments(readObject, 1, column, target).asType(MethodType.methodType(target, ResultSet.class));
+    }
+
+    private static Map<Class<?>, MethodHandle> createReaders() {
+        Map<Class<?>, MethodHandle> readers = new HashMap<>();
+        try {
+            MethodHandles.Lookup publicLookup = MethodHandles.publicLookup();
+            putStatic(readers, int.class, "readInt");
+            putStatic(readers, long.class, "readLong");
+            putStatic(readers, double.class, "readDouble");
+            putStatic(readers, float.class, "readFloat");
+            putStatic(readers, short.class, "readShort");
+            putStatic(readers, byte.class, "readByte");
+            putStatic(readers, boolean.class, "readBoolean");
+            readers.put(String.class, publicLookup.findVirtual(ResultSet.class, "getString", MethodType.methodType(String.class, int.class)));
+            readers.put(byte[].class, publicLookup.findVirtual(ResultSet.class, "getBytes", MethodType.methodType(byte[].class, int.class)));
+            readers.put(BigDecimal.class, publicLookup.findVirtual(ResultSet.class, "getBigDecimal", MethodType.methodType(BigDecimal.class, int.class)));
+            putStatic(readers, Integer.class, "readInteger");
+            putStatic(readers, Long.class, "readLongBoxed");
+            putStatic(readers, Double.class, "readDoubleBoxed");
+            putStatic(readers, Float.class, "readFloatBoxed");
+            putStatic(readers, Short.class, "readShortBoxed");
+            putStatic(readers, Byte.class, "readByteBoxed");
+            putStatic(readers, Boolean.class, "readBooleanBoxed");
+            putStatic(readers, LocalDate.class, "readLocalDate");
+            putStatic(readers, LocalDateTime.class, "readLocalDateTime");
+            putStatic(readers, Instant.class, "readInstant");
+            putStatic(readers, UUID.class, "readUuid");
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        return Map.copyOf(readers);
+    }
+
+    private static void putStatic(Map<Class<?>, MethodHandle> readers, Class<?> type, String name) throws ReflectiveOperationException {
+        readers.put(type, LOOKUP.findStatic(TypedRowMapper.class, name, MethodType.methodType(type, ResultSet.class, int.class)));
+    }
+
+    private static int readInt(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, int.class);
+        }
+        return value;
+    }
+
+    private static long readLong(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, long.class);
+        }
+        return value;
+    }
+
+    private static double readDouble(ResultSet rs, int column) throws SQLException {
+        double value = rs.getDouble(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, double.class);
+        }
+        return value;
+    }
+
+    private static float readFloat(ResultSet rs, int column) throws SQLException {
+        float value = rs.getFloat(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, float.class);
+        }
+        return value;
+    }
+
+    private static short readShort(ResultSet rs, int column) throws SQLException {
+        short value = rs.getShort(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, short.class);
+        }
+        return value;
+    }
+
+    private static byte readByte(ResultSet rs, int column) throws SQLException {
+        byte value = rs.getByte(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, byte.class);
+        }
+        return value;
+    }
+
+    private static boolean readBoolean(ResultSet rs, int column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        if (rs.wasNull()) {
+            throw nullForPrimitive(rs, column, boolean.class);
+        }
+        return value;
+    }
+
+    private static SQLException nullForPrimitive(ResultSet rs, int column, Class<?> type) throws SQLException {
+        return new SQLException("Column '" + rs.getMetaData().getColumnLabel(column) + "' is NULL but maps to primitive "
+                + type.getName() + "; declare it with the boxed type to accept NULL");
+    }
+
+    private static Integer readInteger(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Long readLongBoxed(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Double readDoubleBoxed(ResultSet rs, int column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Float readFloatBoxed(ResultSet rs, int column) throws SQLException {
+        float value = rs.getFloat(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Short readShortBoxed(ResultSet rs, int column) throws SQLException {
+        short value = rs.getShort(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Byte readByteBoxed(ResultSet rs, int column) throws SQLException {
+        byte value = rs.getByte(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Boolean readBooleanBoxed(ResultSet rs, int column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDate readLocalDate(ResultSet rs, int column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static LocalDateTime readLocalDateTime(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+
+    private static Instant readInstant(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toInstant();
+    }
+
+    /**
+     * {@code CHAR(36)} 문자열과 {@code BINARY(16)} 모두 지원한다.
+     */
+    private static UUID readUuid(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Enum<?> readEnum(ResultSet rs, int column, Class type) throws SQLException {
+        String value = rs.getString(column);
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    private static Object readObject(ResultSet rs, int column, Class<?> type) throws SQLException {
+        return rs.getObject(column, type);
+    }
+}
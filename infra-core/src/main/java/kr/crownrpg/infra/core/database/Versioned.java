@@ -0,0 +1,10 @@
+package kr.crownrpg.infra.core.database;
+
+/**
+ * 버전 컬럼과 함께 읽은 행 값.
+ *
+ * @param value   행 값
+ * @param version 값을 읽었을 때(또는 기록한 뒤)의 버전
+ */
+public record Versioned<V>(V value, long version) {
+}
@@ -0,0 +1,222 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.DatabaseService;
+import kr.crownrpg.infra.api.database.DbSession;
+import kr.crownrpg.infra.api.database.RowMapper;
+import kr.crownrpg.infra.api.database.SqlIdentifiers;
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 버전 컬럼을 이용한 낙관적 동시성 갱신 도우미.
+ * <p>
+ * {@code SELECT ... FOR UPDATE}로 행을 잠근 채 계산하는 대신, 잠금 없이 읽은 값에 {@code mutator}를 적용하고
+ * {@code UPDATE ... SET ..., version = version + 1 WHERE id = ? AND version = ?}로 기록한다. 다른 쓰기가 먼저 반영되어
+ * 갱신된 행이 없으면 새 트랜잭션에서 다시 읽고 재시도한다. 행 잠금은 UPDATE부터 커밋까지만 유지되므로
+ * 재화·길드 금고처럼 경합이 심한 행에서 잠금 보유 시간과 커넥션 점유 시간이 짧아진다.
+ * <p>
+ * {@code mutator}는 재시도마다 다시 호출되므로 부수 효과가 없어야 한다. 갱신을 거부하려면 예외를 던진다.
+ *
+ * @param <K> 기본 키
+ * @param <V> 행 값
+ */
+public final class VersionedUpdater<K, V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionedUpdater.class);
+
+    private final String table;
+    private final DatabaseService databaseService;
+    private final RowMapper<V> reader;
+    private final Function<V, Object[]> writer;
+    private final TransactionRetryPolicy retryPolicy;
+    private final String selectSql;
+    private final String updateSql;
+    private final String versionColumn;
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+    private final LatencyHistogram updateLatency = new LatencyHistogram();
+
+    public VersionedUpdater(DatabaseService databaseService, String table, String idColumn, String versionColumn,
+                            List<String> columns, RowMapper<V> reader, Function<V, Object[]> writer) {
+        this(databaseService, table, idColumn, versionColumn, columns, reader, writer,
+                new TransactionRetryPolicy(8, Duration.ofMillis(1), Duration.ofMillis(50)));
+    }
+
+    /**
+     * @param columns     {@code mutator}가 바꾸는 컬럼. {@code reader}는 이 컬럼들과 버전 컬럼을 읽는다
+     * @param writer      값을 {@code columns} 순서의 파라미터로 변환한다
+     * @param retryPolicy 버전 충돌 시 재시도 횟수와 간격
+     */
+    public VersionedUpdater(DatabaseService databaseService, String table, String idColumn, String versionColumn,
+                            List<String> columns, RowMapper<V> reader, Function<V, Object[]> writer,
+                            TransactionRetryPolicy retryPolicy) {
+        this.databaseService = Objects.requireNonNull(databaseService, "databaseService");
+        this.table = Objects.requireNonNull(table, "table");
+        this.reader = Objects.requireNonNull(reader, "reader");
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy");
+        this.versionColumn = Objects.requireNonNull(versionColumn, "versionColumn");
+        String quotedTable = SqlIdentifiers.quoteTable(table);
+        String id = SqlIdentifiers.quote(idColumn);
+        String version = SqlIdentifiers.quote(versionColumn);
+        List<String> assignments = new ArrayList<>(columns.size() + 1);
+        for (String column : columns) {
+            assignments.add(SqlIdentifiers.quote(column) + " = ?");
+        }
+        assignments.add(version + " = " + version + " + 1");
+        this.selectSql = "SELECT " + SqlIdentifiers.quoteList(columns) + ", " + version + " FROM " + quotedTable + " WHERE " + id + " = ?";
+        this.updateSql = "UPDATE " + quotedTable + " SET " + String.join(", ", assignments) + " WHERE " + id + " = ? AND " + version + " = ?";
+    }
+
+    /**
+     * 잠금 없이 현재 값과 버전을 읽는다.
+     */
+    public Optional<Versioned<V>> read(K id) {
+        Objects.requireNonNull(id, "id");
+        return databaseService.executeReadOnly(session -> readRow(session, id));
+    }
+
+    /**
+     * 현재 값을 읽어 {@code mutator}를 적용한다.
+     *
+     * @return 기록된 값과 새 버전
+     * @throws OptimisticLockException 재시도 횟수 안에 충돌 없이 기록하지 못한 경우
+     * @throws DatabaseException 행이 없거나 {@code mutator}가 예외를 던진 경우
+     */
+    public Versioned<V> updateVersioned(K id, UnaryOperator<V> mutator) {
+        return updateVersioned(id, null, mutator);
+    }
+
+    /**
+     * 호출자가 이미 가진 값과 버전({@code expected})으로 첫 시도의 읽기를 생략한다. 버전이 맞지 않으면 다시 읽고 재시도한다.
+     */
+    public Versioned<V> updateVersioned(K id, Versioned<V> expected, UnaryOperator<V> mutator) {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(mutator, "mutator");
+        long start = System.nanoTime();
+        Versioned<V> known = expected;
+        long backoffNanos = 0L;
+        for (int attempt = 1; attempt <= retryPolicy.maxAttempts(); attempt++) {
+            Versioned<V> snapshot = known;
+            Versioned<V> written = databaseService.execute(session -> attempt(session, id, snapshot, mutator));
+            if (written != null) {
+                updates.incrementAndGet();
+                updateLatency.recordSince(start);
+                return written;
+            }
+            known = null;
+            conflicts.incrementAndGet();
+            if (attempt < retryPolicy.maxAttempts()) {
+                backoffNanos = retryPolicy.nextBackoffNanos(backoffNanos);
+                sleep(backoffNanos);
+            }
+        }
+        throw exhaustedException(id);
+    }
+
+    /**
+     * {@link #updateVersioned(Object, UnaryOperator)}의 비동기 버전. 재시도 대기는 스레드를 점유하지 않고 지연 실행으로 처리한다.
+     */
+    public CompletableFuture<Versioned<V>> updateVersionedAsync(K id, UnaryOperator<V> mutator) {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(mutator, "mutator");
+        return attemptAsync(id, mutator, 1, 0L, System.nanoTime());
+    }
+
+    public long updateCount() {
+        return updates.get();
+    }
+
+    /**
+     * 다른 쓰기와 부딪혀 다시 읽은 횟수.
+     */
+    public long conflictCount() {
+        return conflicts.get();
+    }
+
+    public long exhaustedCount() {
+        return exhausted.get();
+    }
+
+    /**
+     * 성공한 갱신 하나당 평균 충돌 횟수. 높으면 해당 행의 경합이 심하다는 뜻이다.
+     */
+    public double conflictRatio() {
+        long done = updates.get();
+        return done == 0 ? 0.0 : (double) conflicts.get() / done;
+    }
+
+    /**
+     * 재시도를 포함한 갱신 완료까지의 시간 분포.
+     */
+    public LatencyHistogram.Snapshot updateLatencySnapshot() {
+        return updateLatency.snapshot();
+    }
+
+    private CompletableFuture<Versioned<V>> attemptAsync(K id, UnaryOperator<V> mutator, int attempt, long backoffNanos, long start) {
+        return databaseService.executeAsync(session -> attempt(session, id, null, mutator)).thenCompose(written -> {
+            if (written != null) {
+                updates.incrementAndGet();
+                updateLatency.recordSince(start);
+                return CompletableFuture.completedFuture(written);
+            }
+            conflicts.incrementAndGet();
+            if (attempt >= retryPolicy.maxAttempts()) {
+                return CompletableFuture.failedFuture(exhaustedException(id));
+            }
+            long delay = retryPolicy.nextBackoffNanos(backoffNanos);
+            return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                    .thenCompose(ignored -> attemptAsync(id, mutator, attempt + 1, delay, start));
+        });
+    }
+
+    /**
+     * 한 번의 시도. 버전 충돌이면 {@code null}을 돌려주고, 트랜잭션은 아무 것도 바꾸지 않은 채 커밋된다.
+     */
+    private Versioned<V> attempt(DbSession session, K id, Versioned<V> known, UnaryOperator<V> mutator) {
+        Versioned<V> current = known != null ? known : readRow(session, id).orElseThrow(() ->
+                new IllegalStateException(table + " row not found: " + id));
+        V next = Objects.requireNonNull(mutator.apply(current.value()), "mutator result");
+        Object[] values = writer.apply(next);
+        Object[] params = new Object[values.length + 2];
+        System.arraycopy(values, 0, params, 0, values.length);
+        params[values.length] = id;
+        params[values.length + 1] = current.version();
+        int updated = session.executeUpdate(updateSql, params);
+        return updated == 1 ? new Versioned<>(next, current.version() + 1) : null;
+    }
+
+    private Optional<Versioned<V>> readRow(DbSession session, K id) {
+        return session.queryOne(selectSql, row -> new Versioned<>(reader.map(row), row.getLong(versionColumn)), id);
+    }
+
+    private OptimisticLockException exhaustedException(K id) {
+        exhausted.incrementAndGet();
+        LOGGER.warn("{} {} 낙관적 갱신이 {}회 모두 충돌했습니다", table, id, retryPolicy.maxAttempts());
+        return new OptimisticLockException("Version conflict on " + table + " row " + id + " after "
+                + retryPolicy.maxAttempts() + " attempts", retryPolicy.maxAttempts());
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Versioned update interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kr.crownrpg.infra.core.database;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 예열 결과.
+ *
+ * @param requested          예열하려던 커넥션 수
+ * @param opened             검증까지 통과한 커넥션 수
+ * @param preparedStatements 미리 prepare한 statement 수 (커넥션 × SQL)
+ * @param elapsedNanos       예열에 걸린 시간
+ */
+public record WarmUpReport(int requested, int opened, int preparedStatements, long elapsedNanos) {
+
+    public boolean complete() {
+        return opened >= requested;
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.crownrpg.infra.core.database;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link HikariDatabaseService} 시작 시 커넥션 풀 예열 설정.
+ */
+public final class WarmUpSettings {
+
+    /** 예열할 커넥션 수로 풀 최대 크기를 그대로 쓴다. */
+    public static final int POOL_SIZE = -1;
+
+    private final int connections;
+    private final Duration timeout;
+    private final List<String> hotStatements;
+
+    /**
+     * @param connections   미리 열어 둘 커넥션 수 ({@link #POOL_SIZE}면 풀 최대 크기, 0이면 예열하지 않음).
+     *                      예열한 커넥션이 유휴 정리로 닫히지 않도록 풀의 최소 유휴 수도 이 값으로 올린다
+     * @param timeout       예열 전체에 허용하는 시간. 넘기면 예열된 만큼만으로 준비 완료 처리한다
+     * @param hotStatements 커넥션마다 미리 prepare해 드라이버 statement 캐시에 올려 둘 SQL
+     */
+    public WarmUpSettings(int connections, Duration timeout, List<String> hotStatements) {
+        this.connections = connections < 0 ? POOL_SIZE : connections;
+        this.timeout = timeout == null || timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(10) : timeout;
+        this.hotStatements = hotStatements == null ? List.of() : List.copyOf(hotStatements);
+    }
+
+    public static WarmUpSettings defaults() {
+        return new WarmUpSettings(POOL_SIZE, Duration.ofSeconds(10), List.of());
+    }
+
+    public static WarmUpSettings disabled() {
+        return new WarmUpSettings(0, Duration.ofSeconds(10), List.of());
+    }
+
+    public WarmUpSettings withHotStatements(List<String> statements) {
+        return new WarmUpSettings(connections, timeout, statements);
+    }
+
+    public boolean enabled() {
+        return connections != 0;
+    }
+
+    /**
+     * @param poolSize 현재 풀 최대 크기
+     */
+    public int connectionsFor(int poolSize) {
+        return connections == POOL_SIZE ? poolSize : Math.min(connections, poolSize);
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public List<String> hotStatements() {
+        return hotStatements;
+    }
+}
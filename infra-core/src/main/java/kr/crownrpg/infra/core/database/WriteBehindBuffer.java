@@ -0,0 +1,449 @@
+package kr.crownrpg.infra.core.database;
+
+import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.DatabaseService;
+import kr.crownrpg.infra.api.lifecycle.ManagedLifecycle;
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * 엔티티 키별 write-behind 버퍼.
+ * <p>
+ * 같은 키로 들어온 변경은 메모리에서 {@code merger}로 합쳐지고(기본은 마지막 값 유지),
+ * 주기 또는 대기 키 수가 {@link WriteBehindSettings#flushBatchSize()}에 도달하면 JDBC 배치 한 번으로 기록된다.
+ * 대기 키 수가 {@link WriteBehindSettings#maxPendingKeys()}에 도달하면 새 키 기록은 자리가 날 때까지 기다리고,
+ * 제한 시간 안에 자리가 나지 않으면 {@link DatabaseException}으로 거부된다. 이미 대기 중인 키의 갱신은 항상 합쳐진다.
+ * <p>
+ * 연결 장애나 데드락처럼 다시 쓰면 성공할 수 있는 실패는 배치 전체를 이후 변경과 합쳐 다시 대기열에 넣는다.
+ * 제약 조건 위반이나 데이터 잘림처럼 값 자체가 문제인 실패는 배치를 한 행씩 다시 기록해 실패한 키만 로그를 남기고 버린다.
+ * {@link #stop()}은 남은 값을 호출 스레드에서 동기로 모두 기록하며, 종료와 경합한 {@link #put(Object, Object)}도 잃지 않는다.
+ *
+ * @param <K> 엔티티 키 (예: 플레이어 UUID)
+ * @param <V> 기록할 상태 값
+ */
+public final class WriteBehindBuffer<K, V> implements ManagedLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final String name;
+    private final DatabaseService databaseService;
+    private final String upsertSql;
+    private final Function<V, Object[]> binder;
+    private final BinaryOperator<V> merger;
+    private final WriteBehindSettings settings;
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock spaceLock = new ReentrantLock();
+    private final Condition spaceAvailable = spaceLock.newCondition();
+    /** {@link #put(Object, Object)}은 읽기 잠금, 종료 전환은 쓰기 잠금. 종료 후 마지막 플러시 뒤에 값이 들어오지 않게 한다. */
+    private final ReentrantReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    /** 꺼내기와 기록을 한 번에 묶는다. 같은 키의 이전 값이 늦게 기록되어 새 값을 덮어쓰지 않게 한다. */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * 마지막 값만 유지하는 버퍼를 만든다.
+     */
+    public WriteBehindBuffer(String name, DatabaseService databaseService, String upsertSql, Function<V, Object[]> binder,
+                             WriteBehindSettings settings) {
+        this(name, databaseService, upsertSql, binder, (previous, latest) -> latest, settings);
+    }
+
+    /**
+     * @param name      로그와 스레드 이름에 쓰는 식별자
+     * @param upsertSql 값 하나를 기록하는 SQL (보통 {@code INSERT ... ON DUPLICATE KEY UPDATE}).
+     *                  배치로 실행되므로 같은 키를 여러 번 써도 결과가 같아야 한다
+     * @param binder    값을 {@code upsertSql} 파라미터로 변환한다. 키 컬럼도 값에서 꺼내야 한다
+     * @param merger    대기 중인 값과 새 값을 합친다 (예: 재화 증감량 합산)
+     */
+    public WriteBehindBuffer(String name, DatabaseService databaseService, String upsertSql, Function<V, Object[]> binder,
+                             BinaryOperator<V> merger, WriteBehindSettings settings) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.databaseService = Objects.requireNonNull(databaseService, "databaseService");
+        this.upsertSql = Objects.requireNonNull(upsertSql, "upsertSql");
+        this.binder = Objects.requireNonNull(binder, "binder");
+        this.merger = Objects.requireNonNull(merger, "merger");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.flusher = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named("crown-write-behind-" + name));
+    }
+
+    @Override
+    public void start() {
+        if (stopped.get()) {
+            throw new IllegalStateException("Write-behind buffer has been stopped and cannot be restarted");
+        }
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        long intervalMs = settings.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 남은 값을 호출 스레드에서 모두 기록한 뒤 종료한다. 데이터베이스 서비스보다 먼저 종료해야 한다.
+     */
+    @Override
+    public void stop() {
+        if (!started.get()) {
+            return;
+        }
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("write-behind '{}' 플러시 스레드가 종료 시간 내에 끝나지 않았습니다", name);
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.shutdownNow();
+        }
+        // 제한 시간 안에 끝나지 않은 플러시 스레드가 배치를 기록 중일 수 있다. 그 배치가 끝나거나 되돌려진 뒤에 남은 값을 센다.
+        flushLock.lock();
+        try {
+            for (int attempt = 1; attempt <= settings.shutdownFlushAttempts() && pendingCount.get() > 0; attempt++) {
+                try {
+                    flush();
+                } catch (DatabaseException e) {
+                    LOGGER.warn("write-behind '{}' 종료 플러시 실패 (시도 {}/{})", name, attempt, settings.shutdownFlushAttempts(), e);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        int remaining = pendingCount.get();
+        if (remaining > 0) {
+            LOGGER.error("write-behind '{}' 종료 플러시에 실패해 {}개 키의 변경을 기록하지 못했습니다", name, remaining);
+        }
+        signalSpace();
+    }
+
+    /**
+     * 값을 버퍼에 넣는다. 같은 키의 대기 값이 있으면 합친다.
+     *
+     * @throws DatabaseException     버퍼가 가득 차 {@link WriteBehindSettings#offerTimeout()} 안에 자리가 나지 않은 경우
+     * @throws IllegalStateException 버퍼가 시작되지 않았거나 종료된 경우
+     */
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        lifecycleLock.readLock().lock();
+        try {
+            putRunning(key, value);
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    private void putRunning(K key, V value) {
+        if (!started.get() || stopped.get()) {
+            throw new IllegalStateException("Write-behind buffer '" + name + "' is not running");
+        }
+        if (pending.computeIfPresent(key, (k, previous) -> merger.apply(previous, value)) != null) {
+            coalesced.incrementAndGet();
+            return;
+        }
+        if (!reserveSlot()) {
+            long total = rejected.incrementAndGet();
+            LOGGER.warn("write-behind '{}' 버퍼가 가득 차 기록을 거부합니다 (대기 {}개, 누적 거부 {}회)", name, pendingCount.get(), total);
+            throw new DatabaseException("Write-behind buffer '" + name + "' is full");
+        }
+        boolean[] merged = {false};
+        pending.compute(key, (k, previous) -> {
+            if (previous == null) {
+                return value;
+            }
+            merged[0] = true;
+            return merger.apply(previous, value);
+        });
+        if (merged[0]) {
+            // 자리를 확보하는 사이 다른 스레드가 같은 키를 넣었다.
+            pendingCount.decrementAndGet();
+            coalesced.incrementAndGet();
+            signalSpace();
+        }
+        requestFlushIfFull();
+    }
+
+    /**
+     * 대기 중인 모든 값을 배치 트랜잭션으로 기록한다. 일시적인 실패로 기록하지 못한 배치의 값은 다시 대기열로 돌아간다.
+     * 플러시 스레드나 다른 호출자가 배치를 기록하는 중이면 그 배치가 끝날 때까지 기다린다.
+     *
+     * @return 기록한 키 수
+     */
+    public int flush() {
+        int total = 0;
+        while (true) {
+            flushLock.lock();
+            try {
+                List<Map.Entry<K, V>> batch = drain(settings.flushBatchSize());
+                if (batch.isEmpty()) {
+                    return total;
+                }
+                writeBatch(batch);
+                total += batch.size();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 기록 전에 합쳐져 트랜잭션을 줄인 변경 수.
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long batchCount() {
+        return batches.get();
+    }
+
+    public long flushFailureCount() {
+        return flushFailures.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * 값 자체의 오류(제약 조건 위반, 데이터 잘림 등)로 기록하지 못하고 버린 키 수.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public LatencyHistogram.Snapshot flushLatencySnapshot() {
+        return flushLatency.snapshot();
+    }
+
+    private List<Map.Entry<K, V>> drain(int limit) {
+        List<Map.Entry<K, V>> batch = new ArrayList<>(Math.min(limit, Math.max(1, pendingCount.get())));
+        Iterator<K> keys = pending.keySet().iterator();
+        while (batch.size() < limit && keys.hasNext()) {
+            K key = keys.next();
+            V value = pending.remove(key);
+            if (value != null) {
+                batch.add(Map.entry(key, value));
+                pendingCount.decrementAndGet();
+            }
+        }
+        if (!batch.isEmpty()) {
+            signalSpace();
+        }
+        return batch;
+    }
+
+    private void writeBatch(List<Map.Entry<K, V>> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            databaseService.executeVoid(session -> {
+                Iterator<Map.Entry<K, V>> entries = batch.iterator();
+                session.executeBatch(upsertSql, new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object[] next() {
+                        return binder.apply(entries.next().getValue());
+                    }
+                }, batch.size());
+            });
+            written.addAndGet(batch.size());
+            batches.incrementAndGet();
+            flushLatency.recordSince(startedAt);
+        } catch (RuntimeException e) {
+            flushFailures.incrementAndGet();
+            if (!isPermanentFailure(e)) {
+                requeue(batch);
+                throw asDatabaseException(e);
+            }
+            LOGGER.warn("write-behind '{}' 배치 기록이 값 오류로 실패해 {}개 키를 한 행씩 다시 기록합니다", name, batch.size(), e);
+            writeRows(batch);
+        }
+    }
+
+    /**
+     * 배치를 행마다 별도 트랜잭션으로 기록한다. 값 오류로 실패한 키는 버리고, 일시적인 실패가 나면 남은 키를 모두 되돌린다.
+     */
+    private void writeRows(List<Map.Entry<K, V>> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Map.Entry<K, V> entry = batch.get(i);
+            try {
+                databaseService.executeVoid(session -> session.executeUpdate(upsertSql, binder.apply(entry.getValue())));
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (!isPermanentFailure(e)) {
+                    requeue(batch.subList(i, batch.size()));
+                    throw asDatabaseException(e);
+                }
+                long total = dropped.incrementAndGet();
+                LOGGER.error("write-behind '{}' 키 {}의 값을 기록할 수 없어 버립니다 (누적 {}개): {}", name, entry.getKey(), total, entry.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * 같은 값을 다시 써도 실패할 오류인지 판단한다. 연결 장애, 경합성 롤백, 원인 없는 서비스 미가용 예외는 일시적이다.
+     */
+    private static boolean isPermanentFailure(Throwable error) {
+        if (SqlFailures.isConnectionFailure(error) || SqlFailures.retryableCause(error) != null) {
+            return false;
+        }
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return !(root instanceof DatabaseException);
+    }
+
+    private DatabaseException asDatabaseException(RuntimeException e) {
+        return e instanceof DatabaseException databaseException
+                ? databaseException
+                : new DatabaseException("Write-behind flush failed for '" + name + "'", e);
+    }
+
+    /**
+     * 실패한 값을 되돌린다. 그 사이 들어온 새 값이 있으면 실패한 값 뒤에 합쳐 순서를 유지한다.
+     * 한도를 잠시 넘을 수 있지만 새 키 기록이 대기하므로 곧 회복된다.
+     */
+    private void requeue(List<Map.Entry<K, V>> batch) {
+        for (Map.Entry<K, V> entry : batch) {
+            boolean[] added = {false};
+            pending.compute(entry.getKey(), (key, newer) -> {
+                if (newer == null) {
+                    added[0] = true;
+                    return entry.getValue();
+                }
+                return merger.apply(entry.getValue(), newer);
+            });
+            if (added[0]) {
+                pendingCount.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean reserveSlot() {
+        int max = settings.maxPendingKeys();
+        if (tryIncrement(max)) {
+            return true;
+        }
+        requestFlush();
+        long remainingNanos = settings.offerTimeout().toNanos();
+        if (remainingNanos <= 0) {
+            return false;
+        }
+        spaceLock.lock();
+        try {
+            while (!tryIncrement(max)) {
+                if (remainingNanos <= 0 || stopped.get()) {
+                    return false;
+                }
+                remainingNanos = spaceAvailable.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            spaceLock.unlock();
+        }
+    }
+
+    private boolean tryIncrement(int max) {
+        while (true) {
+            int current = pendingCount.get();
+            if (current >= max) {
+                return false;
+            }
+            if (pendingCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void signalSpace() {
+        spaceLock.lock();
+        try {
+            spaceAvailable.signalAll();
+        } finally {
+            spaceLock.unlock();
+        }
+    }
+
+    private void requestFlushIfFull() {
+        if (pendingCount.get() >= settings.flushBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (stopped.get() || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (DatabaseException e) {
+            LOGGER.warn("write-behind '{}' 플러시 실패 - 대기 {}개 키를 다음 주기에 재시도합니다", name, pendingCount.get(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package kr.crownrpg.infra.core.database;
+
+import java.time.Duration;
+
+/**
+ * {@link WriteBehindBuffer}의 메모리 한도와 플러시 트리거 설정.
+ */
+public final class WriteBehindSettings {
+
+    private final int maxPendingKeys;
+    private final int flushBatchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final int shutdownFlushAttempts;
+
+    /**
+     * @param maxPendingKeys        메모리에 보관할 수 있는 서로 다른 키 수. 가득 차면 새 키 기록이 대기한다
+     * @param flushBatchSize        한 트랜잭션에 묶어 쓰는 최대 행 수이자 크기 기반 즉시 플러시 임계값
+     * @param flushInterval         시간 기반 플러시 주기
+     * @param offerTimeout          버퍼가 가득 찼을 때 새 키 기록이 자리를 기다리는 최대 시간 (0이면 즉시 실패)
+     * @param shutdownFlushAttempts 종료 시 동기 플러시 실패를 재시도하는 횟수
+     */
+    public WriteBehindSettings(int maxPendingKeys, int flushBatchSize, Duration flushInterval, Duration offerTimeout, int shutdownFlushAttempts) {
+        this.maxPendingKeys = Math.max(1, maxPendingKeys);
+        this.flushBatchSize = Math.max(1, flushBatchSize);
+        this.flushInterval = flushInterval == null || flushInterval.isNegative() || flushInterval.isZero() ? Duration.ofSeconds(1) : flushInterval;
+        this.offerTimeout = offerTimeout == null || offerTimeout.isNegative() ? Duration.ZERO : offerTimeout;
+        this.shutdownFlushAttempts = Math.max(1, shutdownFlushAttempts);
+    }
+
+    public static WriteBehindSettings defaults() {
+        return new WriteBehindSettings(10_000, 500, Duration.ofSeconds(1), Duration.ofMillis(50), 3);
+    }
+
+    public int maxPendingKeys() {
+        return maxPendingKeys;
+    }
+
+    public int flushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public Duration flushInterval() {
+        return flushInterval;
+    }
+
+    public Duration offerTimeout() {
+        return offerTimeout;
+    }
+
+    public int shutdownFlushAttempts() {
+        return shutdownFlushAttempts;
+    }
+}
@@ -0,0 +1,51 @@
+package kr.crownrpg.infra.core.database.shard;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 둔 consistent hashing 라우터. 샤드를 추가하거나 제거해도 약 {@code 1/N}의 키만 이동한다.
+ */
+public final class ConsistentHashShardRouter implements ShardRouter {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> shardIds;
+
+    public ConsistentHashShardRouter(Collection<String> shardIds) {
+        this(shardIds, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param virtualNodes 샤드마다 링에 올리는 지점 수. 클수록 키 분포가 고르다
+     */
+    public ConsistentHashShardRouter(Collection<String> shardIds, int virtualNodes) {
+        if (shardIds == null || shardIds.isEmpty()) {
+            throw new IllegalArgumentException("shardIds must not be empty");
+        }
+        this.shardIds = Collections.unmodifiableSet(new LinkedHashSet<>(shardIds));
+        int nodes = Math.max(1, virtualNodes);
+        for (String shardId : this.shardIds) {
+            for (int i = 0; i < nodes; i++) {
+                ring.putIfAbsent(ShardRouter.hash(shardId + "#" + i), shardId);
+            }
+        }
+    }
+
+    @Override
+    public String shardFor(String key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(ShardRouter.hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    @Override
+    public Set<String> shardIds() {
+        return shardIds;
+    }
+}
@@ -0,0 +1,58 @@
+package kr.crownrpg.infra.core.database.shard;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 64비트 키 공간({@link ShardRouter#position(String)})을 구간으로 나눠 샤드에 배정하는 라우터.
+ * <p>
+ * 구간 경계를 옮기는 방식으로 특정 샤드만 나누거나 합칠 수 있다. 위치는 부호 없는 값으로 비교한다.
+ */
+public final class RangeShardRouter implements ShardRouter {
+
+    private final NavigableMap<Long, String> lowerBounds = new TreeMap<>(Long::compareUnsigned);
+    private final Set<String> shardIds;
+
+    /**
+     * @param lowerBounds 구간 시작 위치(포함, 부호 없는 값) → 샤드 ID. 위치 0에서 시작하는 구간이 있어야 한다
+     */
+    public RangeShardRouter(Map<Long, String> lowerBounds) {
+        Objects.requireNonNull(lowerBounds, "lowerBounds");
+        this.lowerBounds.putAll(lowerBounds);
+        if (this.lowerBounds.isEmpty() || this.lowerBounds.firstKey() != 0L) {
+            throw new IllegalArgumentException("ranges must start at position 0");
+        }
+        this.shardIds = Collections.unmodifiableSet(new LinkedHashSet<>(this.lowerBounds.values()));
+    }
+
+    /**
+     * 키 공간을 {@code shardIds} 순서대로 같은 크기로 나눈다.
+     */
+    public static RangeShardRouter evenly(List<String> shardIds) {
+        if (shardIds == null || shardIds.isEmpty()) {
+            throw new IllegalArgumentException("shardIds must not be empty");
+        }
+        Map<Long, String> bounds = new TreeMap<>(Long::compareUnsigned);
+        long step = Long.divideUnsigned(-1L, shardIds.size());
+        for (int i = 0; i < shardIds.size(); i++) {
+            bounds.put(step * i, shardIds.get(i));
+        }
+        return new RangeShardRouter(bounds);
+    }
+
+    @Override
+    public String shardFor(String key) {
+        return lowerBounds.floorEntry(ShardRouter.position(key)).getValue();
+    }
+
+    @Override
+    public Set<String> shardIds() {
+        return shardIds;
+    }
+}
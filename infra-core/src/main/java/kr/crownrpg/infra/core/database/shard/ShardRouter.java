@@ -0,0 +1,49 @@
+package kr.crownrpg.infra.core.database.shard;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 샤드 키(보통 플레이어 UUID)를 샤드 ID로 매핑한다. 같은 키는 항상 같은 샤드로 가야 한다.
+ */
+public interface ShardRouter {
+
+    String shardFor(String key);
+
+    default String shardFor(UUID key) {
+        return shardFor(key.toString());
+    }
+
+    Set<String> shardIds();
+
+    /**
+     * 키를 64비트 키 공간 위치로 변환한다. UUID 문자열은 상위 64비트를, 그 밖의 키는 해시를 쓴다.
+     */
+    static long position(String key) {
+        if (key.length() == 36 && key.charAt(8) == '-') {
+            try {
+                return UUID.fromString(key).getMostSignificantBits();
+            } catch (IllegalArgumentException ignored) {
+                // UUID 형식이 아니면 해시로 처리한다.
+            }
+        }
+        return hash(key);
+    }
+
+    /**
+     * FNV-1a 64 후 murmur3 finalizer로 비트를 고르게 섞는다.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
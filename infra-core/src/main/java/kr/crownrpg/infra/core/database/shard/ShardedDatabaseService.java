@@ -0,0 +1,326 @@
+package kr.crownrpg.infra.core.database.shard;
+
+import kr.crownrpg.infra.api.database.DatabaseConfig;
+import kr.crownrpg.infra.api.database.DatabaseException;
+import kr.crownrpg.infra.api.database.DatabaseService;
+import kr.crownrpg.infra.api.database.DatabaseState;
+import kr.crownrpg.infra.api.database.TransactionCallback;
+import kr.crownrpg.infra.api.database.TransactionVoidCallback;
+import kr.crownrpg.infra.core.database.DatabaseServiceSettings;
+import kr.crownrpg.infra.core.database.HikariDatabaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 플레이어 단위로 여러 MySQL 인스턴스에 데이터를 나눠 두는 샤드 인식 {@link DatabaseService}.
+ * <p>
+ * 샤드마다 독립된 {@link DatabaseService}(보통 {@link HikariDatabaseService}, 즉 샤드별 풀과 실행기)를 두고
+ * {@link ShardRouter}가 샤드 키를 샤드로 매핑한다. 샤드 라우팅은 이름으로 드러나는 메서드
+ * ({@link #executeOnShard(String, TransactionCallback)}, {@link #executeReadOnlyOnShard(String, TransactionCallback)},
+ * {@link #markWrittenOnShard(String)})로만 한다. {@link DatabaseService}에서 물려받은 호출은 세션 키 오버로드를 포함해
+ * 모두 길드·랭킹 같은 전역 테이블을 두는 전역 샤드에서 실행되므로, 길드 ID 같은 세션 키를 넘기던 기존 코드의 의미는 바뀌지 않는다.
+ * <p>
+ * 여러 샤드에 걸친 읽기는 {@link #scatterGather(TransactionCallback)}로 모든 샤드에 동시에 보내고 결과를 모은다.
+ * 샤드 간 트랜잭션은 지원하지 않는다.
+ */
+public class ShardedDatabaseService implements DatabaseService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedDatabaseService.class);
+
+    private final ShardRouter router;
+    private final Map<String, DatabaseService> shards;
+    private final DatabaseService globalShard;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    /**
+     * @param shards        샤드 ID → 샤드 서비스. {@code router}의 모든 샤드 ID를 포함해야 한다
+     * @param globalShardId 키 없는 호출을 받을 샤드
+     */
+    public ShardedDatabaseService(ShardRouter router, Map<String, ? extends DatabaseService> shards, String globalShardId) {
+        this.router = Objects.requireNonNull(router, "router");
+        Objects.requireNonNull(shards, "shards");
+        for (String shardId : router.shardIds()) {
+            if (!shards.containsKey(shardId)) {
+                throw new IllegalArgumentException("No database configured for shard " + shardId);
+            }
+        }
+        this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+        this.globalShard = this.shards.get(Objects.requireNonNull(globalShardId, "globalShardId"));
+        if (globalShard == null) {
+            throw new IllegalArgumentException("Unknown global shard " + globalShardId);
+        }
+    }
+
+    /**
+     * 샤드마다 {@link HikariDatabaseService}를 만든다. 첫 번째 샤드가 전역 샤드가 된다.
+     */
+    public static ShardedDatabaseService create(ShardRouter router, Map<String, DatabaseConfig> configs, DatabaseServiceSettings settings) {
+        Objects.requireNonNull(configs, "configs");
+        if (configs.isEmpty()) {
+            throw new IllegalArgumentException("configs must not be empty");
+        }
+        Map<String, HikariDatabaseService> shards = new LinkedHashMap<>();
+        configs.forEach((shardId, config) -> shards.put(shardId, new HikariDatabaseService(config, settings)));
+        return new ShardedDatabaseService(router, shards, configs.keySet().iterator().next());
+    }
+
+    public ShardRouter router() {
+        return router;
+    }
+
+    public Map<String, DatabaseService> shards() {
+        return shards;
+    }
+
+    /**
+     * {@code shardKey}가 속한 샤드의 서비스.
+     */
+    public DatabaseService shardFor(String shardKey) {
+        Objects.requireNonNull(shardKey, "shardKey");
+        return shards.get(router.shardFor(shardKey));
+    }
+
+    public DatabaseService shardFor(UUID shardKey) {
+        Objects.requireNonNull(shardKey, "shardKey");
+        return shards.get(router.shardFor(shardKey));
+    }
+
+    public DatabaseService globalShard() {
+        return globalShard;
+    }
+
+    /**
+     * 키의 샤드에서 쓰기 트랜잭션을 실행하고 그 샤드에서 키의 read-your-writes 구간을 연다.
+     */
+    public <T> T executeOnShard(String shardKey, TransactionCallback<T> callback) {
+        return shardFor(shardKey).execute(shardKey, callback);
+    }
+
+    public <T> CompletableFuture<T> executeOnShardAsync(String shardKey, TransactionCallback<T> callback) {
+        DatabaseService shard = shardFor(shardKey);
+        return shard.executeAsync(callback).thenApply(result -> {
+            shard.markWritten(shardKey);
+            return result;
+        });
+    }
+
+    /**
+     * 키의 샤드에서 읽기 전용 트랜잭션을 실행한다. 키가 방금 쓴 경우 그 샤드의 프라이머리에서 읽는다.
+     */
+    public <T> T executeReadOnlyOnShard(String shardKey, TransactionCallback<T> callback) {
+        return shardFor(shardKey).executeReadOnly(shardKey, callback);
+    }
+
+    public void markWrittenOnShard(String shardKey) {
+        shardFor(shardKey).markWritten(shardKey);
+    }
+
+    /**
+     * 전역 샤드에서 쓰기 트랜잭션을 실행하고 {@code sessionKey}의 read-your-writes 구간을 연다.
+     */
+    @Override
+    public <T> T execute(String sessionKey, TransactionCallback<T> callback) {
+        return globalShard.execute(sessionKey, callback);
+    }
+
+    @Override
+    public <T> T executeReadOnly(String sessionKey, TransactionCallback<T> callback) {
+        return globalShard.executeReadOnly(sessionKey, callback);
+    }
+
+    @Override
+    public void markWritten(String sessionKey) {
+        globalShard.markWritten(sessionKey);
+    }
+
+    /**
+     * 모든 샤드에서 읽기 전용 트랜잭션을 동시에 실행하고, 전부 끝나면 샤드 ID별 결과를 돌려준다.
+     * 각 샤드는 자신의 비동기 실행기에서 실행되므로 가장 느린 샤드만큼만 걸린다.
+     *
+     * @throws DatabaseException 하나 이상의 샤드가 실패한 경우 (나머지 실패는 suppressed로 붙는다)
+     */
+    public <T> Map<String, T> scatterGather(TransactionCallback<T> callback) {
+        try {
+            return scatterGatherAsync(callback).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof DatabaseException databaseException
+                    ? databaseException : new DatabaseException("Scatter-gather failed", e.getCause());
+        }
+    }
+
+    public <T> CompletableFuture<Map<String, T>> scatterGatherAsync(TransactionCallback<T> callback) {
+        Objects.requireNonNull(callback, "callback");
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        shards.forEach((shardId, shard) -> futures.put(shardId, shard.executeReadOnlyAsync(callback)));
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).handle((ignored, error) -> {
+            Map<String, T> results = new LinkedHashMap<>();
+            DatabaseException failure = null;
+            for (Map.Entry<String, CompletableFuture<T>> entry : futures.entrySet()) {
+                try {
+                    results.put(entry.getKey(), entry.getValue().join());
+                } catch (CompletionException e) {
+                    DatabaseException shardFailure = new DatabaseException("Shard " + entry.getKey() + " failed", e.getCause());
+                    if (failure == null) {
+                        failure = shardFailure;
+                    } else {
+                        failure.addSuppressed(shardFailure);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 샤드별 목록 결과를 하나로 이어 붙인다 (예: 모든 샤드의 온라인 길드원 조회).
+     */
+    public <T> List<T> scatterGatherList(TransactionCallback<List<T>> callback) {
+        List<T> merged = new ArrayList<>();
+        scatterGather(callback).values().forEach(merged::addAll);
+        return merged;
+    }
+
+    @Override
+    public <T> T execute(TransactionCallback<T> callback) {
+        return globalShard.execute(callback);
+    }
+
+    @Override
+    public void executeVoid(TransactionVoidCallback callback) {
+        globalShard.executeVoid(callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(TransactionCallback<T> callback) {
+        return globalShard.executeAsync(callback);
+    }
+
+    @Override
+    public CompletableFuture<Void> executeVoidAsync(TransactionVoidCallback callback) {
+        return globalShard.executeVoidAsync(callback);
+    }
+
+    @Override
+    public <T> T executeReadOnly(TransactionCallback<T> callback) {
+        return globalShard.executeReadOnly(callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeReadOnlyAsync(TransactionCallback<T> callback) {
+        return globalShard.executeReadOnlyAsync(callback);
+    }
+
+    @Override
+    public <T> T executeWithRetry(TransactionCallback<T> callback) {
+        return globalShard.executeWithRetry(callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetryAsync(TransactionCallback<T> callback) {
+        return globalShard.executeWithRetryAsync(callback);
+    }
+
+    @Override
+    public long bulkImport(String table, List<String> columns, Iterator<Object[]> rows) {
+        return globalShard.bulkImport(table, columns, rows);
+    }
+
+    @Override
+    public long bulkExport(String sql, OutputStream out, Object... params) {
+        return globalShard.bulkExport(sql, out, params);
+    }
+
+    /**
+     * 모든 샤드를 시작한다. 하나라도 시작하지 못하면 이미 시작한 샤드를 멈추고 예외를 다시 던진다.
+     */
+    @Override
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        List<DatabaseService> startedShards = new ArrayList<>();
+        try {
+            for (Map.Entry<String, DatabaseService> entry : shards.entrySet()) {
+                entry.getValue().start();
+                startedShards.add(entry.getValue());
+                LOGGER.info("샤드 {} 시작 ({})", entry.getKey(), entry.getValue().state());
+            }
+        } catch (RuntimeException e) {
+            startedShards.forEach(DatabaseService::stop);
+            started.set(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!started.compareAndSet(true, false)) {
+            return;
+        }
+        shards.forEach((shardId, shard) -> {
+            try {
+                shard.stop();
+            } catch (RuntimeException e) {
+                LOGGER.warn("샤드 {} 종료 중 오류", shardId, e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isStarted() {
+        return started.get();
+    }
+
+    /**
+     * 가장 나쁜 샤드의 상태. 한 샤드라도 DEGRADED면 DEGRADED다.
+     */
+    @Override
+    public DatabaseState state() {
+        DatabaseState worst = DatabaseState.RUNNING;
+        for (DatabaseService shard : shards.values()) {
+            DatabaseState state = shard.state();
+            if (state == DatabaseState.DEGRADED) {
+                return DatabaseState.DEGRADED;
+            }
+            if (state == DatabaseState.STOPPED || (state == DatabaseState.CONNECTING && worst != DatabaseState.STOPPED)) {
+                worst = state;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * 모든 샤드가 예열을 마치고 RUNNING일 때 {@code true}.
+     */
+    @Override
+    public boolean isReady() {
+        for (DatabaseService shard : shards.values()) {
+            if (!shard.isReady()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Map<String, DatabaseState> shardStates() {
+        Map<String, DatabaseState> states = new LinkedHashMap<>();
+        shards.forEach((shardId, shard) -> states.put(shardId, shard.state()));
+        return states;
+    }
+}
@@ -0,0 +1,122 @@
+package kr.crownrpg.infra.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 지연 시간을 2의 거듭제곱 구간으로 집계하는 잠금 없는 히스토그램.
+ * <p>
+ * 기록은 버킷 카운터 하나와 합계 증가뿐이라 핫 패스에서 호출해도 부담이 적다.
+ * 백분위수는 버킷 내부를 선형 보간한 근사값이며 오차는 최대 한 버킷(2배) 이내다.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sumNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * {@code System.nanoTime()}으로 잰 시작 시각부터 현재까지를 기록한다.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @param quantile 0.0 ~ 1.0 사이의 분위
+     * @return 근사 백분위수 (나노초), 기록이 없으면 0
+     */
+    public long percentileNanos(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return percentile(counts, total, quantile);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long mean = total == 0 ? 0L : sumNanos.sum() / total;
+        return new Snapshot(total, mean, percentile(counts, total, 0.50), percentile(counts, total, 0.90),
+                percentile(counts, total, 0.99), maxNanos.get());
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        sumNanos.reset();
+        maxNanos.set(0L);
+    }
+
+    private static int bucketOf(long value) {
+        return value == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0L;
+        }
+        double q = Math.min(1.0, Math.max(0.0, quantile));
+        long rank = Math.max(1L, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (seen + counts[i] >= rank) {
+                long lower = i == 0 ? 0L : 1L << (i - 1);
+                long upper = i == 0 ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                double fraction = (double) (rank - seen) / counts[i];
+                return lower + (long) ((upper - lower) * fraction);
+            }
+            seen += counts[i];
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 특정 시점의 집계 값. 모든 값은 나노초 단위다.
+     */
+    public record Snapshot(long count, long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+
+        public double meanMillis() {
+            return (double) meanNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double p99Millis() {
+            return (double) p99Nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%.2fms p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                    count, meanMillis(), p50Nanos / 1e6, p90Nanos / 1e6, p99Millis(), maxNanos / 1e6);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package kr.crownrpg.infra.core.realtime;
 import io.netty.channel.Channel;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -11,12 +12,24 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class ChannelRegistry {
 
     private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final Listener listener;
+
+    public ChannelRegistry() {
+        this(null);
+    }
+
+    ChannelRegistry(Listener listener) {
+        this.listener = listener;
+    }
 
     public Channel register(String serverId, Channel channel) {
         Channel previous = channels.put(serverId, channel);
         if (previous != null && previous != channel) {
             previous.close();
         }
+        if (listener != null) {
+            listener.onRegistered(serverId);
+        }
         return previous;
     }
 
@@ -25,11 +38,28 @@ public final class ChannelRegistry {
     }
 
     public void remove(Channel channel) {
-        channels.entrySet().removeIf(entry -> entry.getValue() == channel);
+        for (Map.Entry<String, Channel> entry : channels.entrySet()) {
+            if (entry.getValue() == channel && channels.remove(entry.getKey(), channel) && listener != null) {
+                listener.onRemoved(entry.getKey());
+            }
+        }
+    }
+
+    public Set<String> serverIdsSnapshot() {
+        return Set.copyOf(channels.keySet());
     }
 
     public void closeAll() {
         channels.values().forEach(Channel::close);
         channels.clear();
     }
+
+    /**
+     * 로컬 노드의 등록/해제를 관찰한다. 프록시 연합 라우팅 테이블 갱신에 사용된다.
+     */
+    interface Listener {
+        void onRegistered(String serverId);
+
+        void onRemoved(String serverId);
+    }
 }
@@ -0,0 +1,72 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.Protocol;
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.TYPE_DATA;
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.TYPE_ROUTE;
+
+/**
+ * 다른 프록시가 맺은 연합 링크의 인바운드 처리기.
+ * <p>
+ * 일반 노드 링크와 달리 원 발신자(Paper 노드)를 대신해 중계된 DATA 프레임을 허용하며,
+ * ROUTE 프레임으로 상대 프록시가 소유한 노드 목록을 수신한다.
+ */
+class FederationInboundHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private static final int MAX_FRAME_LENGTH = 1024 * 1024;
+
+    private final String peerProxyId;
+    private final ProxyFederation federation;
+    private final Logger logger = LoggerFactory.getLogger(FederationInboundHandler.class);
+
+    FederationInboundHandler(String peerProxyId, ProxyFederation federation) {
+        this.peerProxyId = Objects.requireNonNull(peerProxyId, "peerProxyId");
+        this.federation = Objects.requireNonNull(federation, "federation");
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+        byte type = msg.readByte();
+        switch (type) {
+            case TYPE_ROUTE -> {
+                Protocol.RouteFrame frame = Protocol.decodeRoute(msg, MAX_FRAME_LENGTH);
+                if (!peerProxyId.equals(frame.ownerProxyId())) {
+                    logger.warn("연합 피어 '{}'가 '{}'의 라우트를 광고하여 드롭합니다", peerProxyId, frame.ownerProxyId());
+                    return;
+                }
+                federation.applyRoute(frame);
+            }
+            case TYPE_DATA -> federation.deliverFromPeer(peerProxyId, Protocol.decodeData(msg, MAX_FRAME_LENGTH));
+            default -> logger.debug("연합 링크에서 알 수 없는 프레임을 무시합니다: type={}", type);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        federation.onPeerLinkLost(peerProxyId);
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            ctx.close();
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        logger.warn("연합 링크 처리 중 오류 (peer={})", peerProxyId, cause);
+        ctx.close();
+    }
+}
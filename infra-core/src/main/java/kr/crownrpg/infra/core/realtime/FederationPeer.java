@@ -0,0 +1,24 @@
+package kr.crownrpg.infra.core.realtime;
+
+import java.util.Objects;
+
+/**
+ * 연합(federation) 대상이 되는 다른 Velocity 프록시의 실시간 엔드포인트.
+ *
+ * @param serverId 상대 프록시의 serverId (핸드셰이크에서 식별자로 사용)
+ * @param host     상대 프록시 실시간 서버 호스트
+ * @param port     상대 프록시 실시간 서버 포트
+ */
+public record FederationPeer(String serverId, String host, int port) {
+
+    public FederationPeer {
+        Objects.requireNonNull(serverId, "serverId");
+        Objects.requireNonNull(host, "host");
+        if (serverId.isBlank()) {
+            throw new IllegalArgumentException("serverId must not be blank");
+        }
+        if (port <= 0 || port > 65535) {
+            throw new IllegalArgumentException("port out of range: " + port);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Objects;
  * - WELCOME : {protocolVersion, environment, serverId}
  * - REJECT  : {reason}
  * - DATA    : {targetServerId, sourceServerId, payload}
+ * - ROUTE   : {ownerProxyId, op, serverIds[]} (프록시 간 연합 링크 전용)
  */
 class HandshakeHandler extends ChannelInboundHandlerAdapter {
 
@@ -26,9 +27,18 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
     static final byte TYPE_WELCOME = 0x02;
     static final byte TYPE_REJECT = 0x03;
     static final byte TYPE_DATA = 0x04;
+    static final byte TYPE_ROUTE = 0x05;
+
+    static final byte ROUTE_ADD = 0x01;
+    static final byte ROUTE_REMOVE = 0x02;
+    static final byte ROUTE_SNAPSHOT = 0x03;
 
     static final int PROTOCOL_VERSION = 1;
 
+    /**
+     * 핸드셰이크 허가가 소진되었을 때 보내는 REJECT 사유. 클라이언트는 이 사유를 재연결 시도 횟수에 포함하지 않는다.
+     */
+    static final String OVERLOAD_REJECT_REASON = "핸드셰이크 과부하 - 잠시 후 재시도하세요";
     private static final int MAX_FRAME_LENGTH = 1024 * 1024; // 1MB safety
     private static final Logger LOGGER = LoggerFactory.getLogger(HandshakeHandler.class);
 
@@ -38,8 +48,10 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
     private final String token;
     private final RealtimeChannelSettings settings;
     private final ChannelRegistry registry;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
     private final HandshakeCallback callback;
+    private final HandshakeRateLimiter admission;
+    private final ProxyFederation federation;
 
     HandshakeHandler(boolean serverSide,
                      String environment,
@@ -47,8 +59,21 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
                      String token,
                      RealtimeChannelSettings settings,
                      ChannelRegistry registry,
-                     RealtimeMessageHandler messageHandler,
+                     RealtimeBufferHandler messageHandler,
                      HandshakeCallback callback) {
+        this(serverSide, environment, selfServerId, token, settings, registry, messageHandler, callback, null, null);
+    }
+
+    HandshakeHandler(boolean serverSide,
+                     String environment,
+                     String selfServerId,
+                     String token,
+                     RealtimeChannelSettings settings,
+                     ChannelRegistry registry,
+                     RealtimeBufferHandler messageHandler,
+                     HandshakeCallback callback,
+                     HandshakeRateLimiter admission,
+                     ProxyFederation federation) {
         this.serverSide = serverSide;
         this.environment = Objects.requireNonNull(environment, "environment");
         this.selfServerId = Objects.requireNonNull(selfServerId, "selfServerId");
@@ -63,6 +88,8 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
         this.registry = registry;
         this.messageHandler = messageHandler;
         this.callback = callback;
+        this.admission = admission;
+        this.federation = federation;
     }
 
     @Override
@@ -110,11 +137,14 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
             sendReject(ctx, "환경 불일치 - 요청 환경: " + frame.environment());
             return;
         }
-        if (!token.equals(frame.token())) {
+        boolean peerProxy = federation != null && federation.isPeer(frame.serverId());
+        // 피어 프록시는 노드 토큰이 아닌 연합 토큰으로만 인증한다. 노드 토큰 보유자가 피어 ID를 사칭해 연합 링크를 얻지 못하게 한다.
+        String expectedToken = peerProxy ? settings.federationToken() : token;
+        if (expectedToken == null || !expectedToken.equals(frame.token())) {
             sendReject(ctx, "토큰 불일치");
             return;
         }
-        if (!settings.isAllowedPeer(frame.serverId())) {
+        if (!isAllowedPeer(frame.serverId())) {
             sendReject(ctx, "허용되지 않은 peer: " + frame.serverId());
             return;
         }
@@ -122,13 +152,24 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
             sendReject(ctx, "자기 자신으로의 연결은 허용되지 않습니다");
             return;
         }
+        // 버전/환경/토큰 검사가 끝난 인증된 peer만 허가를 소모한다. 잘못된 HELLO 폭주가 정상 노드의 재연결 몫을 빼앗지 못하게 한다.
+        if (admission != null && !admission.tryAcquire()) {
+            sendReject(ctx, OVERLOAD_REJECT_REASON);
+            return;
+        }
+        if (peerProxy) {
+            ByteBuf welcome = Protocol.encodeWelcome(ctx.alloc(), PROTOCOL_VERSION, environment, selfServerId);
+            ctx.writeAndFlush(welcome);
+            ctx.pipeline().replace(this, "realtime-federation", new FederationInboundHandler(frame.serverId(), federation));
+            return;
+        }
         Channel existing = registry.register(frame.serverId(), ctx.channel());
         if (existing != null && existing != ctx.channel()) {
             existing.close();
         }
         ByteBuf welcome = Protocol.encodeWelcome(ctx.alloc(), PROTOCOL_VERSION, environment, selfServerId);
         ctx.writeAndFlush(welcome);
-        ctx.pipeline().replace(this, "realtime-server", new RealtimeServerHandler(selfServerId, frame.serverId(), registry, messageHandler));
+        ctx.pipeline().replace(this, "realtime-server", new RealtimeServerHandler(selfServerId, frame.serverId(), registry, messageHandler, federation));
         if (callback != null) {
             callback.onAccepted(frame.serverId(), ctx.channel());
         }
@@ -153,7 +194,7 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
             ctx.close();
             return;
         }
-        if (!settings.isAllowedPeer(frame.serverId())) {
+        if (!isAllowedPeer(frame.serverId())) {
             LOGGER.warn("허용되지 않은 서버 {}에서 연결 시도", frame.serverId());
             ctx.close();
             return;
@@ -189,6 +230,10 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
         ctx.close();
     }
 
+    private boolean isAllowedPeer(String peerId) {
+        return settings.isAllowedPeer(peerId) || (federation != null && federation.isPeer(peerId));
+    }
+
     private void sendReject(ChannelHandlerContext ctx, String reason) {
         ByteBuf reject = Protocol.encodeReject(ctx.alloc(), reason);
         ctx.writeAndFlush(reject);
@@ -279,12 +324,53 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
             return buffer;
         }
 
+        /**
+         * 수신한 페이로드를 복사하지 않고 재전송한다. 헤더만 새로 할당하고 페이로드는 참조를 하나 늘려 합성 버퍼로 붙인다.
+         */
+        static ByteBuf encodeData(io.netty.buffer.ByteBufAllocator alloc, String targetServerId, String sourceServerId, ByteBuf payload) {
+            byte[] targetBytes = targetServerId.getBytes(StandardCharsets.UTF_8);
+            byte[] sourceBytes = sourceServerId.getBytes(StandardCharsets.UTF_8);
+            ByteBuf header = alloc.buffer(1 + 2 + targetBytes.length + 2 + sourceBytes.length);
+            header.writeByte(TYPE_DATA);
+            writeSizedBytes(header, targetBytes);
+            writeSizedBytes(header, sourceBytes);
+            return alloc.compositeBuffer(2).addComponents(true, header, payload.retainedSlice());
+        }
+
+        /**
+         * 페이로드는 복사하지 않고 원본 프레임의 슬라이스로 돌려준다. 프레임이 해제되면 함께 무효가 된다.
+         */
         static DataFrame decodeData(ByteBuf buffer, int maxLength) {
             String target = readSizedString(buffer, maxLength);
             String source = readSizedString(buffer, maxLength);
-            byte[] data = new byte[buffer.readableBytes()];
-            buffer.readBytes(data);
-            return new DataFrame(target, source, data);
+            return new DataFrame(target, source, buffer.slice());
+        }
+
+        static ByteBuf encodeRoute(io.netty.buffer.ByteBufAllocator alloc, String ownerProxyId, byte op, java.util.Collection<String> serverIds) {
+            if (serverIds.size() > 65535) {
+                throw new IllegalArgumentException("Too many route entries: " + serverIds.size());
+            }
+            byte[] ownerBytes = ownerProxyId.getBytes(StandardCharsets.UTF_8);
+            ByteBuf buffer = alloc.buffer(1 + 2 + ownerBytes.length + 1 + 2 + serverIds.size() * 16);
+            buffer.writeByte(TYPE_ROUTE);
+            writeSizedBytes(buffer, ownerBytes);
+            buffer.writeByte(op);
+            buffer.writeShort(serverIds.size());
+            for (String serverId : serverIds) {
+                writeSizedBytes(buffer, serverId.getBytes(StandardCharsets.UTF_8));
+            }
+            return buffer;
+        }
+
+        static RouteFrame decodeRoute(ByteBuf buffer, int maxLength) {
+            String owner = readSizedString(buffer, maxLength);
+            byte op = buffer.readByte();
+            int count = buffer.readUnsignedShort();
+            java.util.List<String> serverIds = new java.util.ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                serverIds.add(readSizedString(buffer, maxLength));
+            }
+            return new RouteFrame(owner, op, serverIds);
         }
 
         private static String readSizedString(ByteBuf buffer, int maxLength) {
@@ -314,7 +400,10 @@ class HandshakeHandler extends ChannelInboundHandlerAdapter {
         record RejectFrame(String reason) {
         }
 
-        record DataFrame(String targetServerId, String sourceServerId, byte[] payload) {
+        record DataFrame(String targetServerId, String sourceServerId, ByteBuf payload) {
+        }
+
+        record RouteFrame(String ownerProxyId, byte op, java.util.List<String> serverIds) {
         }
     }
 }
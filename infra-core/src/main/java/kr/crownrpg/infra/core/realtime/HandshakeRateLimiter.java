@@ -0,0 +1,48 @@
+package kr.crownrpg.infra.core.realtime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 측 핸드셰이크 수락 속도를 제한하는 토큰 버킷.
+ * <p>
+ * 프록시 재시작 직후 다수의 Paper 노드가 동시에 재연결할 때(thundering herd)
+ * 초당 일정 수의 HELLO만 수락하고 나머지는 REJECT로 돌려보내 클라이언트 백오프를 유도한다.
+ */
+final class HandshakeRateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    HandshakeRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 설정에서 제한이 비활성화된 경우 {@code null}을 반환한다.
+     */
+    static HandshakeRateLimiter fromSettings(RealtimeChannelSettings settings) {
+        if (settings.handshakePermitsPerSecond() <= 0) {
+            return null;
+        }
+        return new HandshakeRateLimiter(settings.handshakePermitsPerSecond(), settings.handshakeBurst());
+    }
+
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
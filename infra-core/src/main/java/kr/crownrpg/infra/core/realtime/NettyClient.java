@@ -2,8 +2,10 @@ package kr.crownrpg.infra.core.realtime;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -16,12 +18,13 @@ import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetSocketAddress;
 import java.util.Objects;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import static kr.crownrpg.infra.core.realtime.HandshakeHandler.Protocol;
 
@@ -29,6 +32,7 @@ import static kr.crownrpg.infra.core.realtime.HandshakeHandler.Protocol;
  * Paper 서버가 Velocity 실시간 서버에 연결하기 위해 사용하는 Netty 클라이언트 엔드포인트.
  * <p>
  * 재연결, 핸드셰이크, 아웃바운드 메시지 큐 드레인 로직을 모두 포함한다.
+ * 연결은 타임아웃이 있는 비동기 connect로 수행하고, 재연결 지연에는 decorrelated jitter를 적용한다.
  */
 public final class NettyClient {
 
@@ -37,14 +41,16 @@ public final class NettyClient {
     private final String environment;
     private final String serverId;
     private final String token;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
     private final BlockingDeque<NettyRealtimeChannel.OutboundMessage> outboundQueue;
     private final RealtimeChannelSettings settings;
     private final AtomicLong reconnectAttempts = new AtomicLong();
     private final AtomicLong reconnectFailures = new AtomicLong();
+    private final AtomicLong lastBackoffMillis = new AtomicLong();
     private final AtomicLong outboundDropCounter;
     private final Logger logger = LoggerFactory.getLogger(NettyClient.class);
     private final NettyClientListener listener;
+    private final ProxyFederation federation;
 
     private final AtomicBoolean started = new AtomicBoolean(false);
     private final AtomicBoolean stopping = new AtomicBoolean(false);
@@ -63,6 +69,20 @@ public final class NettyClient {
                        BlockingDeque<NettyRealtimeChannel.OutboundMessage> outboundQueue,
                        AtomicLong outboundDropCounter,
                        NettyClientListener listener) {
+        this(host, port, environment, serverId, token, settings, RealtimeBufferHandler.copying(messageHandler), outboundQueue, outboundDropCounter, listener, null);
+    }
+
+    NettyClient(String host,
+                int port,
+                String environment,
+                String serverId,
+                String token,
+                RealtimeChannelSettings settings,
+                RealtimeBufferHandler messageHandler,
+                BlockingDeque<NettyRealtimeChannel.OutboundMessage> outboundQueue,
+                AtomicLong outboundDropCounter,
+                NettyClientListener listener,
+                ProxyFederation federation) {
         this.host = Objects.requireNonNull(host, "host");
         this.port = port;
         this.environment = Objects.requireNonNull(environment, "environment");
@@ -73,6 +93,7 @@ public final class NettyClient {
         this.outboundQueue = Objects.requireNonNull(outboundQueue, "outboundQueue");
         this.outboundDropCounter = Objects.requireNonNull(outboundDropCounter, "outboundDropCounter");
         this.listener = Objects.requireNonNull(listener, "listener");
+        this.federation = federation;
     }
 
     /**
@@ -85,6 +106,7 @@ public final class NettyClient {
         stopping.set(false);
         reconnectAttempts.set(0);
         reconnectFailures.set(0);
+        lastBackoffMillis.set(0L);
         workerGroup = new NioEventLoopGroup();
         scheduleReconnect(true);
     }
@@ -110,6 +132,18 @@ public final class NettyClient {
         ch.flush();
     }
 
+    /**
+     * 핸드셰이크가 끝난 링크에 임의의 프레임을 즉시 기록한다. 연결이 없으면 false를 반환한다.
+     */
+    boolean writeFrame(Function<ByteBufAllocator, ByteBuf> encoder) {
+        Channel ch = channel;
+        if (!handshakeComplete.get() || ch == null || !ch.isActive()) {
+            return false;
+        }
+        ch.writeAndFlush(encoder.apply(ch.alloc()));
+        return true;
+    }
+
     /**
      * 클라이언트를 종료하고 추가 재연결을 막는다.
      */
@@ -133,7 +167,7 @@ public final class NettyClient {
             return;
         }
         long attemptNumber = reconnectAttempts.incrementAndGet();
-        if (attemptNumber > settings.maxReconnectAttempts()) {
+        if (attemptNumber > settings.maxReconnectAttempts() && !settings.reconnectForever()) {
             logger.warn("재연결 최대 시도({})를 초과하여 중단합니다", settings.maxReconnectAttempts());
             listener.onConnectionFailed(attemptNumber, settings.maxReconnectAttempts(), null);
             return;
@@ -142,62 +176,86 @@ public final class NettyClient {
         if (drops > 0 && drops % settings.dropWarnThreshold() == 0) {
             logger.warn("실시간 outbound 큐 누적 드롭 {}회 - 재연결 대기 중 메시지 손실 여부를 확인하세요", drops);
         }
-        long delayMillis = immediate ? 0L : Math.min(settings.maxReconnectDelayMillis(),
-                settings.initialReconnectDelayMillis() * (long) Math.pow(2, Math.max(0, attemptNumber - 1)));
+        long delayMillis = immediate ? 0L : nextBackoffMillis();
         if (delayMillis > 0) {
-            logger.info("실시간 클라이언트 재연결 대기 {}ms (시도 {}/{})", delayMillis, attemptNumber, settings.maxReconnectAttempts());
+            logger.info("실시간 클라이언트 재연결 대기 {}ms (시도 {}/{})", delayMillis, attemptNumber,
+                    settings.reconnectForever() ? "∞" : settings.maxReconnectAttempts());
         }
         workerGroup.schedule(() -> doConnect(attemptNumber), delayMillis, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Decorrelated jitter 백오프: {@code min(cap, random(base, previous * 3))}.
+     * 모든 노드가 같은 순간 끊겨도 재연결 시점이 넓게 흩어지도록 이전 지연을 기준으로 무작위 범위를 넓힌다.
+     */
+    private long nextBackoffMillis() {
+        long base = Math.max(1L, settings.initialReconnectDelayMillis());
+        long cap = Math.max(base, settings.maxReconnectDelayMillis());
+        long previous = Math.max(base, lastBackoffMillis.get());
+        long upper = Math.min(cap, previous * 3);
+        long delay = upper <= base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+        lastBackoffMillis.set(delay);
+        return delay;
+    }
+
     private void doConnect(long attemptNumber) {
         if (stopping.get()) {
             return;
         }
-        try {
-            Bootstrap bootstrap = new Bootstrap()
-                    .group(workerGroup)
-                    .channel(NioSocketChannel.class)
-                    .option(ChannelOption.TCP_NODELAY, true)
-                    .handler(new ChannelInitializer<SocketChannel>() {
-                        @Override
-                        protected void initChannel(SocketChannel ch) {
-                            ch.pipeline()
-                                    .addLast(new IdleStateHandler(0, 0, 120, TimeUnit.SECONDS))
-                                    .addLast(new LengthFieldBasedFrameDecoder(1_048_576, 0, 4, 0, 4))
-                                    .addLast(new LengthFieldPrepender(4))
-                                    .addLast(new HandshakeHandler(false, environment, serverId, token, settings, null, messageHandler, new HandshakeHandler.HandshakeCallback() {
-                                        @Override
-                                        public void onAccepted(String remoteServerId, Channel channel) {
-                                            handshakeComplete.set(true);
-                                            reconnectAttempts.set(0);
-                                            reconnectFailures.set(0);
-                                            drainQueue();
-                                            listener.onConnected();
+        Bootstrap bootstrap = new Bootstrap()
+                .group(workerGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Integer.MAX_VALUE, settings.connectTimeoutMillis()))
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(new IdleStateHandler(0, 0, 120, TimeUnit.SECONDS))
+                                .addLast(new LengthFieldBasedFrameDecoder(1_048_576, 0, 4, 0, 4))
+                                .addLast(new LengthFieldPrepender(4))
+                                .addLast(new HandshakeHandler(false, environment, serverId, token, settings, null, messageHandler, new HandshakeHandler.HandshakeCallback() {
+                                    @Override
+                                    public void onAccepted(String remoteServerId, Channel channel) {
+                                        handshakeComplete.set(true);
+                                        reconnectAttempts.set(0);
+                                        reconnectFailures.set(0);
+                                        lastBackoffMillis.set(0L);
+                                        drainQueue();
+                                        listener.onConnected();
+                                    }
+
+                                    @Override
+                                    public void onRejected(String reason) {
+                                        // 과부하 거부는 서버 사정이므로 최대 재시도 횟수를 소모하지 않는다. 백오프 지연은 그대로 적용된다.
+                                        if (HandshakeHandler.OVERLOAD_REJECT_REASON.equals(reason)) {
+                                            reconnectAttempts.updateAndGet(attempts -> Math.max(0L, attempts - 1));
                                         }
-                                    }));
-                        }
-                    });
-            ChannelFuture future = bootstrap.connect(new InetSocketAddress(host, port)).sync();
-            channel = future.channel();
-            channel.closeFuture().addListener(f -> {
-                handshakeComplete.set(false);
-                if (!stopping.get()) {
-                    scheduleReconnect(false);
-                    listener.onDisconnected();
-                }
-            });
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            listener.onConnectionFailed(attemptNumber, settings.maxReconnectAttempts(), e);
-        } catch (Exception e) {
+                                    }
+                                }, null, federation));
+                    }
+                });
+        // 이벤트 루프에서 실행되므로 sync()로 블로킹하지 않고 리스너로 결과를 처리한다.
+        bootstrap.connect(host, port).addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                channel = future.channel();
+                channel.closeFuture().addListener(f -> {
+                    handshakeComplete.set(false);
+                    if (!stopping.get()) {
+                        scheduleReconnect(false);
+                        listener.onDisconnected();
+                    }
+                });
+                return;
+            }
             long failures = reconnectFailures.incrementAndGet();
-            logger.warn("실시간 클라이언트 연결 실패 (시도 {} / 실패 누적 {} / 허용 {})", attemptNumber, failures, settings.maxReconnectAttempts(), e);
-            listener.onConnectionFailed(attemptNumber, settings.maxReconnectAttempts(), e);
+            logger.warn("실시간 클라이언트 연결 실패 (시도 {} / 실패 누적 {} / 허용 {})", attemptNumber, failures, settings.maxReconnectAttempts(), future.cause());
+            listener.onConnectionFailed(attemptNumber, settings.maxReconnectAttempts(), future.cause());
             if (!stopping.get()) {
                 scheduleReconnect(false);
             }
-        }
+        });
     }
 
     private void scheduleReconnect(boolean immediate) {
@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.core.realtime;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import kr.crownrpg.infra.api.redis.RealtimeChannel;
 import kr.crownrpg.infra.api.redis.RealtimeChannelState;
@@ -16,6 +17,9 @@ import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Netty-backed realtime channel supporting client (Paper) and server (Velocity) roles.
+ * <p>
+ * In server mode the channel can additionally federate with peer proxies: it keeps a client link to each
+ * {@link FederationPeer}, shares which Paper nodes it owns, and forwards frames for remote nodes one hop.
  */
 public class NettyRealtimeChannel implements RealtimeChannel {
 
@@ -27,8 +31,9 @@ public class NettyRealtimeChannel implements RealtimeChannel {
     private final String host;
     private final int port;
     private final Mode mode;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
     private final ChannelRegistry registry;
+    private final ProxyFederation federation;
     private final BlockingDeque<OutboundMessage> outboundQueue;
     private final RealtimeChannelSettings settings;
     private final AtomicLong droppedOutboundCount = new AtomicLong(0);
@@ -60,6 +65,56 @@ public class NettyRealtimeChannel implements RealtimeChannel {
                                 int port,
                                 boolean serverMode,
                                 RealtimeMessageHandler messageHandler) {
+        this(environment, serverId, token, settings, host, port, serverMode, messageHandler, java.util.List.of());
+    }
+
+    /**
+     * @param federationPeers 연합할 다른 프록시 목록 (SERVER 모드 전용, 비어 있으면 연합 비활성).
+     *                        서로를 피어로 등록해야 양방향 라우팅이 성립한다. 연합을 쓰려면
+     *                        {@link RealtimeChannelSettings#withFederationToken(String)}으로 노드 토큰과 다른 연합 토큰을 지정해야 한다.
+     */
+    public NettyRealtimeChannel(String environment,
+                                String serverId,
+                                String token,
+                                RealtimeChannelSettings settings,
+                                String host,
+                                int port,
+                                boolean serverMode,
+                                RealtimeMessageHandler messageHandler,
+                                java.util.List<FederationPeer> federationPeers) {
+        this(environment, serverId, token, settings, host, port, serverMode,
+                RealtimeBufferHandler.copying(Objects.requireNonNull(messageHandler, "messageHandler")), federationPeers);
+    }
+
+    /**
+     * 수신 페이로드를 힙으로 복사하지 않고 풀링된 프레임 그대로 전달하는 채널을 만든다.
+     * 페이로드 수명 규칙은 {@link RealtimePayload}를 따른다.
+     */
+    public static NettyRealtimeChannel withBufferHandler(String environment,
+                                                         String serverId,
+                                                         String token,
+                                                         RealtimeChannelSettings settings,
+                                                         String host,
+                                                         int port,
+                                                         boolean serverMode,
+                                                         RealtimeBufferHandler bufferHandler,
+                                                         java.util.List<FederationPeer> federationPeers) {
+        return new NettyRealtimeChannel(environment, serverId, token, settings, host, port, serverMode, bufferHandler, federationPeers);
+    }
+
+    private NettyRealtimeChannel(String environment,
+                                 String serverId,
+                                 String token,
+                                 RealtimeChannelSettings settings,
+                                 String host,
+                                 int port,
+                                 boolean serverMode,
+                                 RealtimeBufferHandler messageHandler,
+                                 java.util.List<FederationPeer> federationPeers) {
+        Objects.requireNonNull(federationPeers, "federationPeers");
+        if (!serverMode && !federationPeers.isEmpty()) {
+            throw new IllegalArgumentException("federationPeers are only supported in server mode");
+        }
         this.environment = Objects.requireNonNull(environment, "environment");
         this.serverId = Objects.requireNonNull(serverId, "serverId");
         this.token = Objects.requireNonNull(token, "token");
@@ -68,7 +123,14 @@ public class NettyRealtimeChannel implements RealtimeChannel {
         this.port = port;
         this.mode = serverMode ? Mode.SERVER : Mode.CLIENT;
         this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
-        this.registry = new ChannelRegistry();
+        if (federationPeers.isEmpty()) {
+            this.federation = null;
+            this.registry = new ChannelRegistry();
+        } else {
+            this.federation = new ProxyFederation(environment, serverId, token, settings, messageHandler, federationPeers);
+            this.registry = new ChannelRegistry(federation);
+            federation.bindLocalRegistry(registry);
+        }
         this.outboundQueue = new LinkedBlockingDeque<>(settings.outboundQueueCapacity());
     }
 
@@ -83,8 +145,11 @@ public class NettyRealtimeChannel implements RealtimeChannel {
         transitionState(RealtimeChannelState.CONNECTING, "실시간 채널을 초기화합니다");
         if (mode == Mode.SERVER) {
             try {
-                server = new NettyServer(host, port, environment, serverId, token, settings, registry, messageHandler);
+                server = new NettyServer(host, port, environment, serverId, token, settings, registry, messageHandler, federation);
                 server.start();
+                if (federation != null) {
+                    federation.start();
+                }
                 transitionState(RealtimeChannelState.RUNNING, "실시간 서버 채널이 활성화되었습니다");
             } catch (Exception e) {
                 transitionState(RealtimeChannelState.DEGRADED, "실시간 서버 채널 시작 실패");
@@ -112,12 +177,14 @@ public class NettyRealtimeChannel implements RealtimeChannel {
                         logger.warn("실시간 클라이언트 연결 실패 (시도 {}/{})", attempt, maxAttempts);
                     }
                     if (attempt >= maxAttempts) {
-                        transitionState(RealtimeChannelState.DEGRADED, "실시간 채널이 최대 재시도에 도달했습니다");
+                        transitionState(RealtimeChannelState.DEGRADED, settings.reconnectForever()
+                                ? "실시간 채널이 최대 재시도에 도달했습니다 - 최대 지연으로 재연결을 계속합니다"
+                                : "실시간 채널이 최대 재시도에 도달했습니다");
                     } else {
                         transitionState(RealtimeChannelState.CONNECTING, "실시간 채널 재연결 대기");
                     }
                 }
-            });
+            }, null);
             client.start();
         }
     }
@@ -128,6 +195,9 @@ public class NettyRealtimeChannel implements RealtimeChannel {
             return;
         }
         if (mode == Mode.SERVER) {
+            if (federation != null) {
+                federation.stop();
+            }
             if (server != null) {
                 server.stop();
             }
@@ -179,15 +249,29 @@ public class NettyRealtimeChannel implements RealtimeChannel {
         }
     }
 
+    /**
+     * 연합 라우팅 테이블(노드 → 소유 프록시)의 스냅샷. 연합이 비활성이면 빈 맵.
+     */
+    public java.util.Map<String, String> federationRoutes() {
+        return federation == null ? java.util.Map.of() : federation.routesSnapshot();
+    }
+
     private void sendFromServer(String targetNodeId, byte[] payload) {
         if (serverId.equals(targetNodeId)) {
-            messageHandler.onMessage(serverId, payload);
+            ByteBuf loopback = Unpooled.wrappedBuffer(payload);
+            try {
+                messageHandler.onMessage(serverId, RealtimePayload.view(loopback));
+            } finally {
+                loopback.release();
+            }
             return;
         }
         Channel target = registry.find(targetNodeId);
         if (target != null && target.isActive()) {
             ByteBuf buffer = HandshakeHandler.Protocol.encodeData(target.alloc(), targetNodeId, serverId, payload);
             target.writeAndFlush(buffer);
+        } else if (federation != null && federation.forward(targetNodeId, serverId, payload)) {
+            logger.debug("실시간 대상 '{}'을(를) 연합 프록시로 포워딩했습니다", targetNodeId);
         } else {
             logger.warn("실시간 대상 '{}'이(가) 미등록/비활성 상태여서 메시지를 드롭합니다", targetNodeId);
         }
@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.core.realtime;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
@@ -23,7 +24,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Velocity 프록시에서 실시간 페이로드를 중계하기 위해 동작하는 Netty 서버 엔드포인트.
  * <p>
- * 채널 인증과 프레이밍, 유휴 감지를 처리하며 {@link RealtimeMessageHandler}로 메시지를 넘겨준다.
+ * 채널 인증과 프레이밍, 유휴 감지를 처리하며 {@link RealtimeBufferHandler}로 메시지를 넘겨준다.
+ * 프레임은 풀링 할당자에서 받으므로 자기 자신이 대상인 메시지도 복사 없이 전달된다.
+ * 핸드셰이크는 {@link HandshakeRateLimiter}로 초당 수락량을 제한해 재연결 폭주를 완화한다.
  */
 public final class NettyServer {
 
@@ -34,7 +37,9 @@ public final class NettyServer {
     private final String token;
     private final RealtimeChannelSettings settings;
     private final ChannelRegistry registry;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
+    private final HandshakeRateLimiter handshakeAdmission;
+    private final ProxyFederation federation;
     private final Logger logger = LoggerFactory.getLogger(NettyServer.class);
 
     private final AtomicBoolean started = new AtomicBoolean(false);
@@ -50,6 +55,18 @@ public final class NettyServer {
                        RealtimeChannelSettings settings,
                        ChannelRegistry registry,
                        RealtimeMessageHandler messageHandler) {
+        this(bindHost, port, environment, serverId, token, settings, registry, RealtimeBufferHandler.copying(messageHandler), null);
+    }
+
+    NettyServer(String bindHost,
+                int port,
+                String environment,
+                String serverId,
+                String token,
+                RealtimeChannelSettings settings,
+                ChannelRegistry registry,
+                RealtimeBufferHandler messageHandler,
+                ProxyFederation federation) {
         this.bindHost = Objects.requireNonNull(bindHost, "bindHost");
         this.port = port;
         this.environment = Objects.requireNonNull(environment, "environment");
@@ -58,6 +75,8 @@ public final class NettyServer {
         this.settings = Objects.requireNonNull(settings, "settings");
         this.registry = Objects.requireNonNull(registry, "registry");
         this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
+        this.handshakeAdmission = HandshakeRateLimiter.fromSettings(settings);
+        this.federation = federation;
     }
 
     /**
@@ -74,7 +93,9 @@ public final class NettyServer {
             ServerBootstrap bootstrap = new ServerBootstrap()
                     .group(bossGroup, workerGroup)
                     .channel(NioServerSocketChannel.class)
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                     .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                     .childHandler(new ChannelInitializer<SocketChannel>() {
                         @Override
                         protected void initChannel(SocketChannel ch) {
@@ -82,7 +103,7 @@ public final class NettyServer {
                                     .addLast(new IdleStateHandler(0, 0, 120, TimeUnit.SECONDS))
                                     .addLast(new LengthFieldBasedFrameDecoder(1_048_576, 0, 4, 0, 4))
                                     .addLast(new LengthFieldPrepender(4))
-                                    .addLast(new HandshakeHandler(true, environment, serverId, token, settings, registry, messageHandler, null));
+                                    .addLast(new HandshakeHandler(true, environment, serverId, token, settings, registry, messageHandler, null, handshakeAdmission, federation));
                         }
                     });
             ChannelFuture future = bootstrap.bind(new InetSocketAddress(bindHost, port)).sync();
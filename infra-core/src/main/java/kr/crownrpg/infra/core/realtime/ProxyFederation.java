@@ -0,0 +1,235 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.Protocol;
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.ROUTE_ADD;
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.ROUTE_REMOVE;
+import static kr.crownrpg.infra.core.realtime.HandshakeHandler.ROUTE_SNAPSHOT;
+
+/**
+ * SERVER 모드(Velocity) 실시간 채널 간의 프록시 연합.
+ * <p>
+ * 각 프록시는 설정된 피어 프록시마다 클라이언트 링크를 하나씩 유지하며, 자신에게 연결된 Paper 노드 목록을
+ * ROUTE 프레임으로 광고한다. 수신한 광고로 "노드 → 소유 프록시" 라우팅 테이블을 구성하고,
+ * 로컬에 없는 대상으로 가는 DATA 프레임은 소유 프록시로 한 홉만 포워딩한다.
+ * 피어로부터 받은 프레임은 로컬에만 전달하고 다시 포워딩하지 않으므로 루프가 생기지 않는다.
+ * <p>
+ * 연합 링크는 노드 토큰과 별도인 {@link RealtimeChannelSettings#federationToken()}으로 인증하며,
+ * 피어가 중계한 프레임의 발신자는 그 피어 자신이거나 그 피어가 광고한 노드여야 한다.
+ */
+final class ProxyFederation implements ChannelRegistry.Listener {
+
+    private final String environment;
+    private final String selfServerId;
+    private final String federationToken;
+    private final RealtimeChannelSettings settings;
+    private final RealtimeBufferHandler messageHandler;
+    private final Map<String, FederationPeer> peers;
+    private final Map<String, NettyClient> links = new ConcurrentHashMap<>();
+    private final Map<String, String> routes = new ConcurrentHashMap<>();
+    private final AtomicLong droppedRelayCount = new AtomicLong();
+    private final Logger logger = LoggerFactory.getLogger(ProxyFederation.class);
+
+    private volatile ChannelRegistry localRegistry;
+
+    ProxyFederation(String environment,
+                    String selfServerId,
+                    String token,
+                    RealtimeChannelSettings settings,
+                    RealtimeBufferHandler messageHandler,
+                    Collection<FederationPeer> peers) {
+        this.environment = Objects.requireNonNull(environment, "environment");
+        this.selfServerId = Objects.requireNonNull(selfServerId, "selfServerId");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.federationToken = settings.federationToken();
+        if (federationToken == null) {
+            throw new IllegalArgumentException("federationToken is required when federation peers are configured");
+        }
+        if (federationToken.equals(Objects.requireNonNull(token, "token"))) {
+            throw new IllegalArgumentException("federationToken must differ from the node token");
+        }
+        this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
+        this.peers = Objects.requireNonNull(peers, "peers").stream()
+                .filter(peer -> !selfServerId.equals(peer.serverId()))
+                .collect(Collectors.toUnmodifiableMap(FederationPeer::serverId, Function.identity(), (a, b) -> a));
+    }
+
+    void bindLocalRegistry(ChannelRegistry registry) {
+        this.localRegistry = Objects.requireNonNull(registry, "registry");
+    }
+
+    boolean isPeer(String serverId) {
+        return peers.containsKey(serverId);
+    }
+
+    void start() {
+        RealtimeChannelSettings linkSettings = settings.withReconnectForever();
+        for (FederationPeer peer : peers.values()) {
+            NettyClient link = new NettyClient(peer.host(), peer.port(), environment, selfServerId, federationToken, linkSettings, messageHandler,
+                    new LinkedBlockingDeque<>(1), new AtomicLong(), new LinkListener(peer.serverId()), this);
+            links.put(peer.serverId(), link);
+            link.start();
+        }
+        if (!peers.isEmpty()) {
+            logger.info("실시간 프록시 연합을 시작합니다: {}", peers.keySet());
+        }
+    }
+
+    void stop() {
+        links.values().forEach(NettyClient::stop);
+        links.clear();
+        routes.clear();
+    }
+
+    /**
+     * 현재 라우팅 테이블(노드 → 소유 프록시)의 스냅샷.
+     */
+    Map<String, String> routesSnapshot() {
+        return Map.copyOf(routes);
+    }
+
+    @Override
+    public void onRegistered(String serverId) {
+        broadcast(ROUTE_ADD, List.of(serverId));
+    }
+
+    @Override
+    public void onRemoved(String serverId) {
+        broadcast(ROUTE_REMOVE, List.of(serverId));
+    }
+
+    /**
+     * 로컬에 없는 대상을 소유 프록시로 포워딩한다. 라우트나 링크가 없으면 false.
+     */
+    boolean forward(String targetServerId, String sourceServerId, byte[] payload) {
+        return forward(targetServerId, sourceServerId, alloc -> Protocol.encodeData(alloc, targetServerId, sourceServerId, payload));
+    }
+
+    /**
+     * 수신 프레임의 페이로드를 복사 없이 포워딩한다. 전송에 필요한 참조는 인코딩 시점에 따로 확보하므로
+     * 호출자의 버퍼 수명에는 영향이 없다.
+     */
+    boolean forward(String targetServerId, String sourceServerId, ByteBuf payload) {
+        return forward(targetServerId, sourceServerId, alloc -> Protocol.encodeData(alloc, targetServerId, sourceServerId, payload));
+    }
+
+    private boolean forward(String targetServerId, String sourceServerId, Function<ByteBufAllocator, ByteBuf> encoder) {
+        String owner = routes.get(targetServerId);
+        if (owner == null) {
+            return false;
+        }
+        NettyClient link = links.get(owner);
+        if (link == null || !link.writeFrame(encoder)) {
+            logRelayDrop("연합 프록시 '" + owner + "' 링크가 비활성 상태");
+            return false;
+        }
+        return true;
+    }
+
+    void applyRoute(Protocol.RouteFrame frame) {
+        String owner = frame.ownerProxyId();
+        switch (frame.op()) {
+            case ROUTE_ADD -> frame.serverIds().forEach(id -> routes.put(id, owner));
+            case ROUTE_REMOVE -> frame.serverIds().forEach(id -> routes.remove(id, owner));
+            case ROUTE_SNAPSHOT -> {
+                routes.values().removeIf(owner::equals);
+                frame.serverIds().forEach(id -> routes.put(id, owner));
+                logger.info("연합 프록시 '{}'의 라우트 {}개를 동기화했습니다", owner, frame.serverIds().size());
+            }
+            default -> logger.warn("알 수 없는 라우트 연산을 무시합니다: op={}", frame.op());
+        }
+    }
+
+    /**
+     * 피어 프록시가 중계한 프레임을 로컬 노드 또는 자기 자신에게 전달한다. 재포워딩하지 않는다.
+     * 발신자가 피어 자신도, 피어가 광고한 노드도 아니면 드롭한다.
+     */
+    void deliverFromPeer(String peerProxyId, Protocol.DataFrame frame) {
+        String source = frame.sourceServerId();
+        if (!peerProxyId.equals(source) && !peerProxyId.equals(routes.get(source))) {
+            logger.warn("연합 피어 '{}'가 광고하지 않은 '{}'로 가장한 메시지를 드롭합니다", peerProxyId, source);
+            return;
+        }
+        if (selfServerId.equals(frame.targetServerId())) {
+            messageHandler.onMessage(frame.sourceServerId(), RealtimePayload.view(frame.payload()));
+            return;
+        }
+        ChannelRegistry registry = localRegistry;
+        Channel target = registry == null ? null : registry.find(frame.targetServerId());
+        if (target != null && target.isActive()) {
+            target.writeAndFlush(Protocol.encodeData(target.alloc(), frame.targetServerId(), frame.sourceServerId(), frame.payload()));
+        } else {
+            logRelayDrop("피어 '" + peerProxyId + "'가 중계한 대상 '" + frame.targetServerId() + "'이(가) 로컬에 없음");
+        }
+    }
+
+    void onPeerLinkLost(String peerProxyId) {
+        if (routes.values().removeIf(peerProxyId::equals)) {
+            logger.warn("연합 프록시 '{}' 링크가 끊겨 해당 라우트를 제거했습니다", peerProxyId);
+        }
+    }
+
+    private void broadcast(byte op, Collection<String> serverIds) {
+        for (NettyClient link : links.values()) {
+            link.writeFrame(alloc -> Protocol.encodeRoute(alloc, selfServerId, op, serverIds));
+        }
+    }
+
+    private void sendSnapshot(String peerProxyId) {
+        ChannelRegistry registry = localRegistry;
+        NettyClient link = links.get(peerProxyId);
+        if (registry == null || link == null) {
+            return;
+        }
+        link.writeFrame(alloc -> Protocol.encodeRoute(alloc, selfServerId, ROUTE_SNAPSHOT, registry.serverIdsSnapshot()));
+    }
+
+    private void logRelayDrop(String reason) {
+        long total = droppedRelayCount.incrementAndGet();
+        if (total % settings.dropWarnThreshold() == 0) {
+            logger.warn("연합 포워딩 드롭 {}회 발생 ({})", total, reason);
+        } else {
+            logger.debug("연합 포워딩 드롭 {}회 발생 ({})", total, reason);
+        }
+    }
+
+    private final class LinkListener implements NettyClient.NettyClientListener {
+
+        private final String peerProxyId;
+
+        private LinkListener(String peerProxyId) {
+            this.peerProxyId = peerProxyId;
+        }
+
+        @Override
+        public void onConnected() {
+            logger.info("연합 프록시 '{}' 링크가 연결되었습니다", peerProxyId);
+            sendSnapshot(peerProxyId);
+        }
+
+        @Override
+        public void onDisconnected() {
+            logger.info("연합 프록시 '{}' 링크가 끊겨 재연결을 대기합니다", peerProxyId);
+        }
+
+        @Override
+        public void onConnectionFailed(long attempt, long maxAttempts, Throwable cause) {
+            logger.debug("연합 프록시 '{}' 연결 실패 (시도 {}/{})", peerProxyId, attempt, maxAttempts);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.crownrpg.infra.core.realtime;
+
+import java.util.Objects;
+
+/**
+ * Zero-copy alternative to {@link RealtimeMessageHandler}.
+ * <p>
+ * The payload is a read-only view of the pooled inbound frame and is released after the callback returns;
+ * call {@link RealtimePayload#retain()} to keep it longer and release it explicitly afterwards.
+ */
+@FunctionalInterface
+public interface RealtimeBufferHandler {
+
+    void onMessage(String fromServerId, RealtimePayload payload);
+
+    /**
+     * Adapts a byte-array handler by copying each payload onto the heap.
+     */
+    static RealtimeBufferHandler copying(RealtimeMessageHandler handler) {
+        Objects.requireNonNull(handler, "handler");
+        return (fromServerId, payload) -> handler.onMessage(fromServerId, payload.toByteArray());
+    }
+}
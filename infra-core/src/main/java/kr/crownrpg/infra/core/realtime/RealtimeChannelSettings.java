@@ -17,25 +17,95 @@ public final class RealtimeChannelSettings {
     private final long initialReconnectDelayMillis;
     private final long maxReconnectDelayMillis;
     private final int dropWarnThreshold;
+    private final long connectTimeoutMillis;
+    private final boolean reconnectForever;
+    private final double handshakePermitsPerSecond;
+    private final int handshakeBurst;
+    private final String federationToken;
 
+    /**
+     * 기존 호출부 호환용 생성자. 핸드셰이크 속도 제한은 끈 상태로 만든다.
+     */
     public RealtimeChannelSettings(Set<String> allowedPeerIds,
                                    int outboundQueueCapacity,
                                    int maxReconnectAttempts,
                                    long initialReconnectDelayMillis,
                                    long maxReconnectDelayMillis,
                                    int dropWarnThreshold) {
+        this(allowedPeerIds, outboundQueueCapacity, maxReconnectAttempts, initialReconnectDelayMillis, maxReconnectDelayMillis,
+                dropWarnThreshold, TimeUnit.SECONDS.toMillis(5), false, 0.0, 10);
+    }
+
+    /**
+     * @param connectTimeoutMillis      TCP 연결 타임아웃 ({@code CONNECT_TIMEOUT_MILLIS})
+     * @param reconnectForever          true면 최대 재시도 횟수 이후에도 최대 지연으로 계속 재연결한다
+     * @param handshakePermitsPerSecond 서버가 초당 수락하는 핸드셰이크 수 (0 이하이면 제한 없음)
+     * @param handshakeBurst            순간적으로 허용하는 핸드셰이크 버스트 크기
+     */
+    public RealtimeChannelSettings(Set<String> allowedPeerIds,
+                                   int outboundQueueCapacity,
+                                   int maxReconnectAttempts,
+                                   long initialReconnectDelayMillis,
+                                   long maxReconnectDelayMillis,
+                                   int dropWarnThreshold,
+                                   long connectTimeoutMillis,
+                                   boolean reconnectForever,
+                                   double handshakePermitsPerSecond,
+                                   int handshakeBurst) {
+        this(allowedPeerIds, outboundQueueCapacity, maxReconnectAttempts, initialReconnectDelayMillis, maxReconnectDelayMillis,
+                dropWarnThreshold, connectTimeoutMillis, reconnectForever, handshakePermitsPerSecond, handshakeBurst, null);
+    }
+
+    /**
+     * @param federationToken 피어 프록시끼리만 쓰는 연합 링크 인증 토큰. 노드 토큰과 달라야 하며,
+     *                        {@code null}이면 연합 링크를 수락하지 않는다
+     */
+    public RealtimeChannelSettings(Set<String> allowedPeerIds,
+                                   int outboundQueueCapacity,
+                                   int maxReconnectAttempts,
+                                   long initialReconnectDelayMillis,
+                                   long maxReconnectDelayMillis,
+                                   int dropWarnThreshold,
+                                   long connectTimeoutMillis,
+                                   boolean reconnectForever,
+                                   double handshakePermitsPerSecond,
+                                   int handshakeBurst,
+                                   String federationToken) {
         this.allowedPeerIds = new CopyOnWriteArraySet<>(Objects.requireNonNull(allowedPeerIds, "allowedPeerIds"));
         this.outboundQueueCapacity = Math.max(1, outboundQueueCapacity);
         this.maxReconnectAttempts = Math.max(1, maxReconnectAttempts);
         this.initialReconnectDelayMillis = Math.max(0L, initialReconnectDelayMillis);
         this.maxReconnectDelayMillis = Math.max(initialReconnectDelayMillis, maxReconnectDelayMillis);
         this.dropWarnThreshold = Math.max(1, dropWarnThreshold);
+        this.connectTimeoutMillis = Math.max(1L, connectTimeoutMillis);
+        this.reconnectForever = reconnectForever;
+        this.handshakePermitsPerSecond = Math.max(0.0, handshakePermitsPerSecond);
+        this.handshakeBurst = Math.max(1, handshakeBurst);
+        this.federationToken = federationToken == null || federationToken.isEmpty() ? null : federationToken;
     }
 
     public static RealtimeChannelSettings defaults(Set<String> allowedPeerIds) {
         return new RealtimeChannelSettings(allowedPeerIds, 512, 10, TimeUnit.SECONDS.toMillis(1), TimeUnit.SECONDS.toMillis(30), 10);
     }
 
+    /**
+     * 재연결을 포기하지 않는 사본을 만든다. 프록시 연합 링크처럼 항상 복구되어야 하는 연결에 사용한다.
+     */
+    RealtimeChannelSettings withReconnectForever() {
+        return new RealtimeChannelSettings(allowedPeerIds, outboundQueueCapacity, maxReconnectAttempts, initialReconnectDelayMillis,
+                maxReconnectDelayMillis, dropWarnThreshold, connectTimeoutMillis, true, handshakePermitsPerSecond, handshakeBurst,
+                federationToken);
+    }
+
+    /**
+     * 연합 링크 인증 토큰을 지정한 사본을 만든다.
+     */
+    public RealtimeChannelSettings withFederationToken(String federationToken) {
+        return new RealtimeChannelSettings(allowedPeerIds, outboundQueueCapacity, maxReconnectAttempts, initialReconnectDelayMillis,
+                maxReconnectDelayMillis, dropWarnThreshold, connectTimeoutMillis, reconnectForever, handshakePermitsPerSecond,
+                handshakeBurst, federationToken);
+    }
+
     public Set<String> allowedPeerIdsSnapshot() {
         return Collections.unmodifiableSet(allowedPeerIds);
     }
@@ -69,4 +139,27 @@ public final class RealtimeChannelSettings {
     public int dropWarnThreshold() {
         return dropWarnThreshold;
     }
+
+    public long connectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public boolean reconnectForever() {
+        return reconnectForever;
+    }
+
+    public double handshakePermitsPerSecond() {
+        return handshakePermitsPerSecond;
+    }
+
+    public int handshakeBurst() {
+        return handshakeBurst;
+    }
+
+    /**
+     * 연합 링크 인증 토큰. 설정되지 않았으면 {@code null}.
+     */
+    public String federationToken() {
+        return federationToken;
+    }
 }
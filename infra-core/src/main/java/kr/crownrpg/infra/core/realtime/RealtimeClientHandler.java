@@ -18,12 +18,12 @@ class RealtimeClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     private final String selfServerId;
     private final String remoteServerId;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
     private final Logger logger = LoggerFactory.getLogger(RealtimeClientHandler.class);
 
     RealtimeClientHandler(String selfServerId,
                           String remoteServerId,
-                          RealtimeMessageHandler messageHandler) {
+                          RealtimeBufferHandler messageHandler) {
         this.selfServerId = Objects.requireNonNull(selfServerId, "selfServerId");
         this.remoteServerId = Objects.requireNonNull(remoteServerId, "remoteServerId");
         this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
@@ -43,7 +43,7 @@ class RealtimeClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
             logger.warn("예상치 못한 피어 {} 로부터의 데이터를 드롭합니다", frame.sourceServerId());
             return;
         }
-        messageHandler.onMessage(frame.sourceServerId(), frame.payload());
+        messageHandler.onMessage(frame.sourceServerId(), RealtimePayload.view(frame.payload()));
     }
 
     @Override
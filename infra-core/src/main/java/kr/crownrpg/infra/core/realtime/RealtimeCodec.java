@@ -0,0 +1,33 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Binary codec for one realtime message type.
+ * <p>
+ * Each codec owns a wire type ID ({@code 0..65535}) that {@link RealtimeMessageRouter} writes as an unsigned short
+ * ahead of the encoded body. Implementations should write fields directly into the buffer (see {@link RealtimeCodecs})
+ * instead of building intermediate strings or arrays.
+ *
+ * @param <T> message type
+ */
+public interface RealtimeCodec<T> {
+
+    int typeId();
+
+    Class<T> type();
+
+    void encode(T message, ByteBuf out);
+
+    /**
+     * Decodes the body that follows the type ID. The buffer is only valid for the duration of the call.
+     */
+    T decode(ByteBuf in);
+
+    /**
+     * Expected encoded size in bytes, used to size the pooled buffer up front.
+     */
+    default int sizeHint(T message) {
+        return 64;
+    }
+}
@@ -0,0 +1,59 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * {@link RealtimeCodec} 구현에서 공통으로 쓰는 필드 인코딩 도우미.
+ * 문자열은 중간 배열 없이 UTF-8로 직접 기록한다.
+ */
+public final class RealtimeCodecs {
+
+    private RealtimeCodecs() {
+    }
+
+    public static void writeUuid(ByteBuf out, UUID value) {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    public static UUID readUuid(ByteBuf in) {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * 2바이트 길이 접두사와 UTF-8 본문으로 문자열을 기록한다. {@code null}은 길이 0xFFFF로 표시한다.
+     */
+    public static void writeString(ByteBuf out, String value) {
+        if (value == null) {
+            out.writeShort(0xFFFF);
+            return;
+        }
+        int length = ByteBufUtil.utf8Bytes(value);
+        if (length >= 0xFFFF) {
+            throw new IllegalArgumentException("String field exceeds 65534 bytes");
+        }
+        out.writeShort(length);
+        ByteBufUtil.reserveAndWriteUtf8(out, value, length);
+    }
+
+    public static String readString(ByteBuf in) {
+        int length = in.readUnsignedShort();
+        if (length == 0xFFFF) {
+            return null;
+        }
+        String value = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+        in.skipBytes(length);
+        return value;
+    }
+
+    /**
+     * 문자열의 예상 인코딩 크기. {@link RealtimeCodec#sizeHint(Object)} 계산용.
+     */
+    public static int sizeOf(String value) {
+        return 2 + (value == null ? 0 : ByteBufUtil.utf8MaxBytes(value));
+    }
+}
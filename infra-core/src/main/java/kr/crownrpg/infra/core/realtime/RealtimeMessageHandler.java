@@ -2,6 +2,8 @@ package kr.crownrpg.infra.core.realtime;
 
 /**
  * Callback for delivering realtime messages after routing.
+ * <p>
+ * Each payload is copied onto the heap; use {@link RealtimeBufferHandler} to consume the pooled frame directly.
  */
 @FunctionalInterface
 public interface RealtimeMessageHandler {
@@ -0,0 +1,158 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import kr.crownrpg.infra.api.redis.RealtimeChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 채널 위의 타입 지정 메시지 계층.
+ * <p>
+ * 페이로드 앞 2바이트(unsigned short)를 메시지 타입 ID로 사용하며, 수신 시 타입 ID로 인덱싱한 배열에서
+ * 코덱과 핸들러를 찾아 바로 디코딩한다. 문자열 비교나 JSON 파싱 없이 분기하므로 지연 시간에 민감한 경로에 사용한다.
+ * 등록은 드물고 조회는 빈번하므로 테이블은 copy-on-write 배열로 관리한다.
+ * <p>
+ * 라우터 자체가 {@link RealtimeBufferHandler}이므로 {@link NettyRealtimeChannel#withBufferHandler}에 그대로 넘긴다.
+ */
+public final class RealtimeMessageRouter implements RealtimeBufferHandler {
+
+    private static final int MAX_TYPE_ID = 0xFFFF;
+    private static final int TYPE_ID_LENGTH = 2;
+
+    private final RealtimeBufferHandler fallback;
+    private final Map<Class<?>, RealtimeCodec<?>> codecsByType = new ConcurrentHashMap<>();
+    private final AtomicLong unknownTypeCount = new AtomicLong();
+    private final AtomicLong decodeFailureCount = new AtomicLong();
+    private final Logger logger = LoggerFactory.getLogger(RealtimeMessageRouter.class);
+
+    private volatile Route<?>[] routes = new Route<?>[0];
+
+    public RealtimeMessageRouter() {
+        this(null);
+    }
+
+    /**
+     * @param fallback 등록되지 않은 타입 ID의 페이로드를 넘겨받을 핸들러 (없으면 드롭)
+     */
+    public RealtimeMessageRouter(RealtimeBufferHandler fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * 코덱과 핸들러를 등록한다. 같은 타입 ID나 같은 메시지 클래스를 중복 등록하면 예외를 던진다.
+     */
+    public synchronized <T> RealtimeMessageRouter register(RealtimeCodec<T> codec, RealtimeTypedHandler<? super T> handler) {
+        Objects.requireNonNull(codec, "codec");
+        Objects.requireNonNull(handler, "handler");
+        int typeId = codec.typeId();
+        if (typeId < 0 || typeId > MAX_TYPE_ID) {
+            throw new IllegalArgumentException("typeId must be between 0 and " + MAX_TYPE_ID + ": " + typeId);
+        }
+        Route<?>[] current = routes;
+        if (typeId < current.length && current[typeId] != null) {
+            throw new IllegalStateException("Realtime message type already registered: " + typeId);
+        }
+        if (codecsByType.putIfAbsent(Objects.requireNonNull(codec.type(), "codec.type()"), codec) != null) {
+            throw new IllegalStateException("Realtime codec already registered for " + codec.type().getName());
+        }
+        Route<?>[] next = Arrays.copyOf(current, Math.max(current.length, typeId + 1));
+        next[typeId] = new Route<>(codec, handler);
+        routes = next;
+        return this;
+    }
+
+    /**
+     * 등록된 코덱으로 메시지를 인코딩해 전송한다.
+     */
+    public <T> void send(RealtimeChannel channel, String targetNodeId, T message) {
+        Objects.requireNonNull(channel, "channel");
+        channel.send(targetNodeId, encode(message));
+    }
+
+    /**
+     * 타입 ID와 본문을 담은 페이로드를 만든다. 풀링 버퍼에 인코딩한 뒤 정확한 크기의 배열로 한 번만 복사한다.
+     */
+    public <T> byte[] encode(T message) {
+        Objects.requireNonNull(message, "message");
+        RealtimeCodec<T> codec = codecFor(message);
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.heapBuffer(TYPE_ID_LENGTH + Math.max(0, codec.sizeHint(message)));
+        try {
+            buffer.writeShort(codec.typeId());
+            codec.encode(message, buffer);
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public void onMessage(String fromServerId, RealtimePayload payload) {
+        if (payload.readableBytes() < TYPE_ID_LENGTH) {
+            dropUnknown(fromServerId, -1, payload);
+            return;
+        }
+        int typeId = payload.getShort(0) & 0xFFFF;
+        Route<?>[] table = routes;
+        Route<?> route = typeId < table.length ? table[typeId] : null;
+        if (route == null) {
+            dropUnknown(fromServerId, typeId, payload);
+            return;
+        }
+        ByteBuf body = payload.buffer();
+        body.skipBytes(TYPE_ID_LENGTH);
+        route.dispatch(fromServerId, body, this);
+    }
+
+    public long unknownTypeCount() {
+        return unknownTypeCount.get();
+    }
+
+    public long decodeFailureCount() {
+        return decodeFailureCount.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RealtimeCodec<T> codecFor(T message) {
+        RealtimeCodec<T> codec = (RealtimeCodec<T>) codecsByType.get(message.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("No realtime codec registered for " + message.getClass().getName());
+        }
+        return codec;
+    }
+
+    private void dropUnknown(String fromServerId, int typeId, RealtimePayload payload) {
+        if (fallback != null) {
+            fallback.onMessage(fromServerId, payload);
+            return;
+        }
+        long total = unknownTypeCount.incrementAndGet();
+        logger.debug("등록되지 않은 실시간 메시지 타입을 드롭합니다 (type={}, from={}, 누적 {})", typeId, fromServerId, total);
+    }
+
+    private void onDecodeFailure(String fromServerId, RealtimeCodec<?> codec, RuntimeException e) {
+        long total = decodeFailureCount.incrementAndGet();
+        logger.warn("실시간 메시지 디코딩 실패 (type={}, from={}, 누적 {})", codec.typeId(), fromServerId, total, e);
+    }
+
+    private record Route<T>(RealtimeCodec<T> codec, RealtimeTypedHandler<? super T> handler) {
+
+        void dispatch(String fromServerId, ByteBuf body, RealtimeMessageRouter router) {
+            T message;
+            try {
+                message = codec.decode(body);
+            } catch (RuntimeException e) {
+                router.onDecodeFailure(fromServerId, codec, e);
+                return;
+            }
+            handler.onMessage(fromServerId, message);
+        }
+    }
+}
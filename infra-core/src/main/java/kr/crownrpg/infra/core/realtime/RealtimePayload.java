@@ -0,0 +1,94 @@
+package kr.crownrpg.infra.core.realtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * 수신 프레임의 페이로드 구간을 가리키는 읽기 전용, 참조 카운트 기반 뷰.
+ * <p>
+ * 기본 수명은 {@link RealtimeBufferHandler#onMessage(String, RealtimePayload)} 콜백이 반환될 때까지이며,
+ * 콜백 이후에도 사용하려면 {@link #retain()}으로 참조를 늘리고 사용이 끝나면 {@link #release()}를 호출해야 한다.
+ * 버퍼는 Netty {@code PooledByteBufAllocator}에서 할당된 프레임을 그대로 공유하므로 힙 복사가 발생하지 않는다.
+ */
+public final class RealtimePayload {
+
+    private final ByteBuf buffer;
+
+    private RealtimePayload(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 주어진 버퍼의 읽기 가능 구간을 참조 카운트를 공유하는 읽기 전용 뷰로 감싼다.
+     */
+    static RealtimePayload view(ByteBuf source) {
+        Objects.requireNonNull(source, "source");
+        return new RealtimePayload(source.slice().asReadOnly());
+    }
+
+    public int readableBytes() {
+        return buffer.readableBytes();
+    }
+
+    public byte getByte(int index) {
+        return buffer.getByte(index);
+    }
+
+    public short getShort(int index) {
+        return buffer.getShort(index);
+    }
+
+    public int getInt(int index) {
+        return buffer.getInt(index);
+    }
+
+    public long getLong(int index) {
+        return buffer.getLong(index);
+    }
+
+    public void getBytes(int index, byte[] destination, int destinationIndex, int length) {
+        buffer.getBytes(index, destination, destinationIndex, length);
+    }
+
+    public String toString(int index, int length, Charset charset) {
+        return buffer.toString(index, length, charset);
+    }
+
+    /**
+     * 페이로드를 읽기 전용 NIO 버퍼로 노출한다. 복사가 발생하지 않을 수 있으므로 수명 규칙은 동일하다.
+     */
+    public ByteBuffer nioBuffer() {
+        return buffer.nioBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Netty 코덱과 직접 연동할 때 사용하는 읽기 전용 버퍼. 인덱스를 옮겨도 원본 프레임에는 영향이 없다.
+     */
+    public ByteBuf buffer() {
+        return buffer.duplicate();
+    }
+
+    /**
+     * 힙 배열로 복사한다. 수명 관리가 필요 없는 대신 할당이 발생한다.
+     */
+    public byte[] toByteArray() {
+        return ByteBufUtil.getBytes(buffer);
+    }
+
+    public RealtimePayload retain() {
+        buffer.retain();
+        return this;
+    }
+
+    public boolean release() {
+        return buffer.release();
+    }
+
+    public int refCnt() {
+        return buffer.refCnt();
+    }
+}
@@ -20,17 +20,20 @@ class RealtimeServerHandler extends SimpleChannelInboundHandler<ByteBuf> {
     private final String selfServerId;
     private final String remoteServerId;
     private final ChannelRegistry registry;
-    private final RealtimeMessageHandler messageHandler;
+    private final RealtimeBufferHandler messageHandler;
+    private final ProxyFederation federation;
     private final Logger logger = LoggerFactory.getLogger(RealtimeServerHandler.class);
 
     RealtimeServerHandler(String selfServerId,
                           String remoteServerId,
                           ChannelRegistry registry,
-                          RealtimeMessageHandler messageHandler) {
+                          RealtimeBufferHandler messageHandler,
+                          ProxyFederation federation) {
         this.selfServerId = Objects.requireNonNull(selfServerId, "selfServerId");
         this.remoteServerId = Objects.requireNonNull(remoteServerId, "remoteServerId");
         this.registry = Objects.requireNonNull(registry, "registry");
         this.messageHandler = Objects.requireNonNull(messageHandler, "messageHandler");
+        this.federation = federation;
     }
 
     @Override
@@ -49,13 +52,15 @@ class RealtimeServerHandler extends SimpleChannelInboundHandler<ByteBuf> {
             return;
         }
         if (selfServerId.equals(frame.targetServerId())) {
-            messageHandler.onMessage(remoteServerId, frame.payload());
+            messageHandler.onMessage(remoteServerId, RealtimePayload.view(frame.payload()));
             return;
         }
         Channel targetChannel = registry.find(frame.targetServerId());
         if (targetChannel != null && targetChannel.isActive()) {
             ByteBuf forward = Protocol.encodeData(targetChannel.alloc(), frame.targetServerId(), remoteServerId, frame.payload());
             targetChannel.writeAndFlush(forward);
+        } else if (federation != null && federation.forward(frame.targetServerId(), remoteServerId, frame.payload())) {
+            logger.debug("대상 '{}'을(를) 연합 프록시로 포워딩했습니다", frame.targetServerId());
         } else {
             logger.warn("대상 '{}'이(가) 활성화되어 있지 않아 실시간 포워딩을 드롭합니다", frame.targetServerId());
         }
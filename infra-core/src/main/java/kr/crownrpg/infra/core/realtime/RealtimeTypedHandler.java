@@ -0,0 +1,10 @@
+package kr.crownrpg.infra.core.realtime;
+
+/**
+ * Callback for decoded realtime messages of a single type.
+ */
+@FunctionalInterface
+public interface RealtimeTypedHandler<T> {
+
+    void onMessage(String fromServerId, T message);
+}
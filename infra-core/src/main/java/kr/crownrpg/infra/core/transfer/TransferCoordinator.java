@@ -0,0 +1,299 @@
+package kr.crownrpg.infra.core.transfer;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import kr.crownrpg.infra.api.lifecycle.ManagedLifecycle;
+import kr.crownrpg.infra.api.redis.RealtimeChannel;
+import kr.crownrpg.infra.api.transfer.TransferContracts;
+import kr.crownrpg.infra.api.transfer.TransferStage;
+import kr.crownrpg.infra.core.metrics.LatencyHistogram;
+import kr.crownrpg.infra.core.realtime.RealtimeMessageRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link TransferContracts} 상태 기계를 실행하는 플레이어 이동 조정기.
+ * <p>
+ * 이동마다 불변 상태 객체를 {@link AtomicReference}로 들고 CAS로만 전이하므로 잠금이 없다.
+ * 단계 타임아웃은 {@link HashedWheelTimer}에 올려 수천 건이 동시에 진행되어도 타이머 비용이 일정하다.
+ * 단계 메시지는 {@link TransferMessageCodec}으로 인코딩해 {@link RealtimeChannel}로 주고받는다.
+ * <p>
+ * 알지 못하는 이동의 비종료 단계 메시지를 받으면 해당 단계에서 추적을 시작한다.
+ * 예를 들어 Velocity는 REQUEST로, 목적지 Paper는 PREPARE로 이동을 처음 인지한다.
+ */
+public final class TransferCoordinator implements ManagedLifecycle {
+
+    private final String selfServerId;
+    private final RealtimeChannel channel;
+    private final RealtimeMessageRouter router;
+    private final TransferCoordinatorSettings settings;
+    private final TransferListener listener;
+    private final Map<UUID, Session> transfers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> stageLatency = new ConcurrentHashMap<>();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final AtomicLong rejectedTransitions = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicReference<HashedWheelTimer> timer = new AtomicReference<>();
+    private final Logger logger = LoggerFactory.getLogger(TransferCoordinator.class);
+
+    /**
+     * @param router 실시간 채널에 연결된 라우터. 이동 메시지 코덱이 여기에 등록된다.
+     */
+    public TransferCoordinator(String selfServerId,
+                               RealtimeChannel channel,
+                               RealtimeMessageRouter router,
+                               TransferCoordinatorSettings settings,
+                               TransferListener listener) {
+        this.selfServerId = Objects.requireNonNull(selfServerId, "selfServerId");
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.router = Objects.requireNonNull(router, "router");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.listener = Objects.requireNonNull(listener, "listener");
+        router.register(new TransferMessageCodec(), this::onRemoteMessage);
+    }
+
+    @Override
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "crown-transfer-timer");
+            thread.setDaemon(true);
+            return thread;
+        };
+        timer.set(new HashedWheelTimer(threadFactory, settings.timerTickMillis(), TimeUnit.MILLISECONDS, 512));
+    }
+
+    @Override
+    public void stop() {
+        if (!started.compareAndSet(true, false)) {
+            return;
+        }
+        HashedWheelTimer current = timer.getAndSet(null);
+        if (current != null) {
+            current.stop();
+        }
+        transfers.clear();
+    }
+
+    /**
+     * 새 이동을 REQUEST 단계로 시작하고 조정 노드(보통 Velocity)로 요청을 보낸다.
+     *
+     * @return 생성된 이동 ID
+     */
+    public UUID request(UUID playerId, String toServerId, String coordinatorNodeId) {
+        Objects.requireNonNull(playerId, "playerId");
+        Objects.requireNonNull(toServerId, "toServerId");
+        Objects.requireNonNull(coordinatorNodeId, "coordinatorNodeId");
+        ensureStarted();
+        UUID transferId = UUID.randomUUID();
+        Session session = new Session(transferId, playerId, selfServerId, toServerId, TransferStage.REQUEST, null);
+        transfers.put(transferId, session);
+        scheduleTimeout(session, session.state.get());
+        send(coordinatorNodeId, session, TransferStage.REQUEST, null);
+        return transferId;
+    }
+
+    /**
+     * 로컬에서 단계를 전이하고 성공하면 대상 노드로 알린다.
+     *
+     * @param targetNodeId 메시지를 받을 노드 ({@code null}이면 로컬 전이만 수행)
+     * @return 이동이 존재하고 전이가 계약상 허용되어 적용되었으면 true
+     */
+    public boolean advance(UUID transferId, String nextStage, String targetNodeId, String reason) {
+        Objects.requireNonNull(transferId, "transferId");
+        Objects.requireNonNull(nextStage, "nextStage");
+        ensureStarted();
+        Session session = transfers.get(transferId);
+        if (session == null || transition(session, nextStage, reason, false) == null) {
+            rejectedTransitions.incrementAndGet();
+            return false;
+        }
+        if (targetNodeId != null) {
+            send(targetNodeId, session, nextStage, reason);
+        }
+        return true;
+    }
+
+    public Optional<TransferSnapshot> find(UUID transferId) {
+        Session session = transfers.get(transferId);
+        return session == null ? Optional.empty() : Optional.of(session.snapshot());
+    }
+
+    public int activeCount() {
+        return transfers.size();
+    }
+
+    /**
+     * 단계별 체류 시간 분포. 키는 벗어난 단계 이름이다.
+     */
+    public Map<String, LatencyHistogram.Snapshot> stageLatencySnapshot() {
+        Map<String, LatencyHistogram.Snapshot> snapshot = new LinkedHashMap<>();
+        stageLatency.forEach((stage, histogram) -> snapshot.put(stage, histogram.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * 이동 시작부터 종료 단계 도달까지의 전체 소요 시간 분포.
+     */
+    public LatencyHistogram.Snapshot totalLatencySnapshot() {
+        return totalLatency.snapshot();
+    }
+
+    public long rejectedTransitionCount() {
+        return rejectedTransitions.get();
+    }
+
+    public long timeoutCount() {
+        return timeoutCount.get();
+    }
+
+    private void onRemoteMessage(String fromServerId, TransferMessage message) {
+        if (!started.get()) {
+            return;
+        }
+        Session session = transfers.get(message.transferId());
+        if (session == null) {
+            if (isTerminal(message.stage())) {
+                logger.debug("추적하지 않는 이동의 종료 메시지를 무시합니다 (transfer={}, stage={})", message.transferId(), message.stage());
+                return;
+            }
+            Session adopted = new Session(message.transferId(), message.playerId(), message.fromServerId(), message.toServerId(),
+                    message.stage(), message.reason());
+            Session existing = transfers.putIfAbsent(message.transferId(), adopted);
+            if (existing == null) {
+                scheduleTimeout(adopted, adopted.state.get());
+                listener.onStageChanged(adopted.snapshot(), null, true);
+                return;
+            }
+            session = existing;
+        }
+        if (transition(session, message.stage(), message.reason(), true) == null) {
+            long total = rejectedTransitions.incrementAndGet();
+            logger.debug("허용되지 않은 이동 전이를 드롭합니다 (transfer={}, {} -> {}, from={}, 누적 {})",
+                    message.transferId(), session.state.get().stage(), message.stage(), fromServerId, total);
+        }
+    }
+
+    /**
+     * CAS로 단계를 전이한다. 계약상 허용되지 않으면 {@code null}을 반환한다.
+     */
+    private State transition(Session session, String nextStage, String reason, boolean remote) {
+        State current;
+        State next;
+        do {
+            current = session.state.get();
+            if (!TransferContracts.isValidTransition(current.stage(), nextStage)) {
+                return null;
+            }
+            next = new State(nextStage, System.nanoTime(), reason);
+        } while (!session.state.compareAndSet(current, next));
+        onTransitioned(session, current, next);
+        listener.onStageChanged(session.snapshot(), current.stage(), remote);
+        return next;
+    }
+
+    private void onTransitioned(Session session, State previous, State next) {
+        stageLatency.computeIfAbsent(previous.stage(), stage -> new LatencyHistogram())
+                .record(next.enteredNanos() - previous.enteredNanos());
+        Timeout pending = session.timeout;
+        if (pending != null) {
+            pending.cancel();
+        }
+        if (isTerminal(next.stage())) {
+            transfers.remove(session.transferId, session);
+            totalLatency.record(next.enteredNanos() - session.startedNanos);
+        } else {
+            scheduleTimeout(session, next);
+        }
+    }
+
+    private void scheduleTimeout(Session session, State expected) {
+        HashedWheelTimer current = timer.get();
+        if (current == null) {
+            return;
+        }
+        session.timeout = current.newTimeout(t -> onTimeout(session, expected),
+                settings.timeoutMillisFor(expected.stage()), TimeUnit.MILLISECONDS);
+    }
+
+    private void onTimeout(Session session, State expected) {
+        if (session.state.get() != expected) {
+            return;
+        }
+        timeoutCount.incrementAndGet();
+        String reason = "timeout in stage " + expected.stage();
+        String target = TransferContracts.isValidTransition(expected.stage(), TransferStage.FAIL) ? TransferStage.FAIL
+                : TransferContracts.isValidTransition(expected.stage(), TransferStage.CANCEL) ? TransferStage.CANCEL
+                : null;
+        if (target != null) {
+            State next = new State(target, System.nanoTime(), reason);
+            if (!session.state.compareAndSet(expected, next)) {
+                return;
+            }
+            onTransitioned(session, expected, next);
+        } else if (!transfers.remove(session.transferId, session)) {
+            return;
+        }
+        logger.warn("이동 단계 타임아웃 (transfer={}, player={}, stage={})", session.transferId, session.playerId, expected.stage());
+        listener.onTimedOut(session.snapshot(), expected.stage());
+    }
+
+    private void send(String targetNodeId, Session session, String stage, String reason) {
+        TransferMessage message = new TransferMessage(session.transferId, session.playerId, session.fromServerId, session.toServerId,
+                stage, System.currentTimeMillis(), reason);
+        router.send(channel, targetNodeId, message);
+    }
+
+    private void ensureStarted() {
+        if (!started.get()) {
+            throw new IllegalStateException("TransferCoordinator has not been started");
+        }
+    }
+
+    private static boolean isTerminal(String stage) {
+        return TransferContracts.allowedNextStages(stage).isEmpty();
+    }
+
+    private record State(String stage, long enteredNanos, String reason) {
+    }
+
+    private static final class Session {
+
+        private final UUID transferId;
+        private final UUID playerId;
+        private final String fromServerId;
+        private final String toServerId;
+        private final long startedNanos = System.nanoTime();
+        private final long startedAtMillis = System.currentTimeMillis();
+        private final AtomicReference<State> state;
+        private volatile Timeout timeout;
+
+        private Session(UUID transferId, UUID playerId, String fromServerId, String toServerId, String stage, String reason) {
+            this.transferId = transferId;
+            this.playerId = playerId;
+            this.fromServerId = fromServerId;
+            this.toServerId = toServerId;
+            this.state = new AtomicReference<>(new State(stage, startedNanos, reason));
+        }
+
+        private TransferSnapshot snapshot() {
+            State current = state.get();
+            return new TransferSnapshot(transferId, playerId, fromServerId, toServerId, current.stage(), startedAtMillis, current.reason());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kr.crownrpg.infra.core.transfer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransferCoordinator}의 단계 타임아웃과 타이머 정밀도 설정.
+ */
+public final class TransferCoordinatorSettings {
+
+    private final long defaultStageTimeoutMillis;
+    private final Map<String, Long> stageTimeoutMillis;
+    private final long timerTickMillis;
+
+    /**
+     * @param defaultStageTimeoutMillis 단계별 설정이 없을 때 적용할 타임아웃
+     * @param stageTimeoutMillis        단계 이름별 타임아웃
+     * @param timerTickMillis           타이머 휠 틱 간격 (타임아웃 정밀도)
+     */
+    public TransferCoordinatorSettings(long defaultStageTimeoutMillis, Map<String, Long> stageTimeoutMillis, long timerTickMillis) {
+        this.defaultStageTimeoutMillis = Math.max(1L, defaultStageTimeoutMillis);
+        this.stageTimeoutMillis = Map.copyOf(Objects.requireNonNull(stageTimeoutMillis, "stageTimeoutMillis"));
+        this.timerTickMillis = Math.max(1L, timerTickMillis);
+    }
+
+    public static TransferCoordinatorSettings defaults() {
+        return new TransferCoordinatorSettings(TimeUnit.SECONDS.toMillis(10), Map.of(), 10L);
+    }
+
+    public long timeoutMillisFor(String stage) {
+        Long value = stageTimeoutMillis.get(stage);
+        return value == null ? defaultStageTimeoutMillis : Math.max(1L, value);
+    }
+
+    public long defaultStageTimeoutMillis() {
+        return defaultStageTimeoutMillis;
+    }
+
+    public Map<String, Long> stageTimeoutMillis() {
+        return stageTimeoutMillis;
+    }
+
+    public long timerTickMillis() {
+        return timerTickMillis;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.crownrpg.infra.core.transfer;
+
+/**
+ * {@link TransferCoordinator}의 상태 변화 콜백.
+ * <p>
+ * 원격 메시지는 Netty 이벤트 루프에서, 타임아웃은 타이머 스레드에서 호출되므로 블로킹 작업은 다른 실행기로 넘겨야 한다.
+ */
+public interface TransferListener {
+
+    /**
+     * 단계가 전이되었을 때 호출된다.
+     *
+     * @param previousStage 이전 단계. 원격 메시지로 처음 알게 된 이동이면 {@code null}
+     * @param remote        다른 노드가 보낸 메시지로 전이되었으면 true
+     */
+    default void onStageChanged(TransferSnapshot transfer, String previousStage, boolean remote) {
+    }
+
+    /**
+     * 단계 타임아웃이 발생했을 때 호출된다. {@code transfer.stage()}는 타임아웃 처리 후 단계(FAIL/CANCEL)이며,
+     * 허용되는 종료 전이가 없으면 만료된 단계 그대로다. 어느 경우든 이동은 상태 테이블에서 제거된다.
+     */
+    default void onTimedOut(TransferSnapshot transfer, String timedOutStage) {
+    }
+}
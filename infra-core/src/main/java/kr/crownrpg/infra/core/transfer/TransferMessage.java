@@ -0,0 +1,27 @@
+package kr.crownrpg.infra.core.transfer;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 실시간 채널로 교환하는 플레이어 이동 단계 메시지.
+ * 필드 구성은 {@link kr.crownrpg.infra.api.transfer.TransferPayloadKeys}와 동일하다.
+ *
+ * @param reason 실패/취소 사유 (선택)
+ */
+public record TransferMessage(UUID transferId,
+                              UUID playerId,
+                              String fromServerId,
+                              String toServerId,
+                              String stage,
+                              long timestamp,
+                              String reason) {
+
+    public TransferMessage {
+        Objects.requireNonNull(transferId, "transferId");
+        Objects.requireNonNull(playerId, "playerId");
+        Objects.requireNonNull(fromServerId, "fromServerId");
+        Objects.requireNonNull(toServerId, "toServerId");
+        Objects.requireNonNull(stage, "stage");
+    }
+}
@@ -0,0 +1,85 @@
+package kr.crownrpg.infra.core.transfer;
+
+import io.netty.buffer.ByteBuf;
+import kr.crownrpg.infra.api.transfer.TransferStage;
+import kr.crownrpg.infra.core.realtime.RealtimeCodec;
+import kr.crownrpg.infra.core.realtime.RealtimeCodecs;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link TransferMessage}의 바이너리 코덱.
+ * <p>
+ * 표준 단계는 1바이트 인덱스로, 확장 단계는 {@link #CUSTOM_STAGE} 뒤에 문자열로 기록한다.
+ * 디코딩한 표준 단계는 {@link TransferStage} 상수 인스턴스를 그대로 돌려준다.
+ */
+public final class TransferMessageCodec implements RealtimeCodec<TransferMessage> {
+
+    /** 플레이어 이동 메시지의 실시간 타입 ID. */
+    public static final int TYPE_ID = 0x0100;
+
+    private static final int CUSTOM_STAGE = 0xFF;
+    private static final List<String> STAGES = List.of(
+            TransferStage.REQUEST,
+            TransferStage.PREPARE,
+            TransferStage.READY,
+            TransferStage.TRANSFERRING,
+            TransferStage.COMPLETE,
+            TransferStage.FAIL,
+            TransferStage.CANCEL
+    );
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<TransferMessage> type() {
+        return TransferMessage.class;
+    }
+
+    @Override
+    public void encode(TransferMessage message, ByteBuf out) {
+        RealtimeCodecs.writeUuid(out, message.transferId());
+        RealtimeCodecs.writeUuid(out, message.playerId());
+        RealtimeCodecs.writeString(out, message.fromServerId());
+        RealtimeCodecs.writeString(out, message.toServerId());
+        int stageIndex = STAGES.indexOf(message.stage());
+        if (stageIndex >= 0) {
+            out.writeByte(stageIndex);
+        } else {
+            out.writeByte(CUSTOM_STAGE);
+            RealtimeCodecs.writeString(out, message.stage());
+        }
+        out.writeLong(message.timestamp());
+        RealtimeCodecs.writeString(out, message.reason());
+    }
+
+    @Override
+    public TransferMessage decode(ByteBuf in) {
+        UUID transferId = RealtimeCodecs.readUuid(in);
+        UUID playerId = RealtimeCodecs.readUuid(in);
+        String fromServerId = RealtimeCodecs.readString(in);
+        String toServerId = RealtimeCodecs.readString(in);
+        int stageIndex = in.readUnsignedByte();
+        String stage;
+        if (stageIndex == CUSTOM_STAGE) {
+            stage = RealtimeCodecs.readString(in);
+        } else if (stageIndex < STAGES.size()) {
+            stage = STAGES.get(stageIndex);
+        } else {
+            throw new IllegalStateException("Unknown transfer stage index: " + stageIndex);
+        }
+        long timestamp = in.readLong();
+        String reason = RealtimeCodecs.readString(in);
+        return new TransferMessage(transferId, playerId, fromServerId, toServerId, stage, timestamp, reason);
+    }
+
+    @Override
+    public int sizeHint(TransferMessage message) {
+        return 16 + 16 + RealtimeCodecs.sizeOf(message.fromServerId()) + RealtimeCodecs.sizeOf(message.toServerId())
+                + 1 + 8 + RealtimeCodecs.sizeOf(message.reason());
+    }
+}
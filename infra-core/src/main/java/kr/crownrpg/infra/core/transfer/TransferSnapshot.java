@@ -0,0 +1,17 @@
+package kr.crownrpg.infra.core.transfer;
+
+import java.util.UUID;
+
+/**
+ * 특정 시점의 이동 상태 사본.
+ *
+ * @param reason 마지막 단계 전이에 함께 전달된 사유 (없으면 {@code null})
+ */
+public record TransferSnapshot(UUID transferId,
+                               UUID playerId,
+                               String fromServerId,
+                               String toServerId,
+                               String stage,
+                               long startedAtMillis,
+                               String reason) {
+}
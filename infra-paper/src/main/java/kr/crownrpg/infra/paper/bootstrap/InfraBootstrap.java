@@ -2,6 +2,7 @@ package kr.crownrpg.infra.paper.bootstrap;
 
 import kr.crownrpg.lib.service.ServiceRegistry;
 import kr.crownrpg.infra.api.context.InfraContext;
+import kr.crownrpg.infra.api.database.DatabaseClient;
 import kr.crownrpg.infra.api.database.DatabaseService;
 import kr.crownrpg.infra.api.redis.RedisBus;
 import kr.crownrpg.infra.paper.binder.DatabaseBinder;
@@ -68,6 +69,7 @@ public final class InfraBootstrap {
             registerRequiredService(InfraContext.class, context);
             registerRequiredService(RedisBus.class, redisBinder.getBus());
             registerRequiredService(DatabaseService.class, databaseBinder.getService());
+            registerRequiredService(DatabaseClient.class, databaseBinder.getClient());
 
             logger.info("CrownInfra bootstrap completed for " + context);
             started = true;
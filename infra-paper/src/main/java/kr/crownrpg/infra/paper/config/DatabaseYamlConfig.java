@@ -1,13 +1,17 @@
 package kr.crownrpg.infra.paper.config;
 
 import kr.crownrpg.infra.api.database.DatabaseConfig;
+import kr.crownrpg.infra.api.database.DatabaseEndpoint;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
-public record DatabaseYamlConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties) {
+public record DatabaseYamlConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties,
+                                 List<DatabaseEndpoint> replicas) {
 
     public static DatabaseYamlConfig fromConfig(ConfigurationSection section) {
         if (section == null) {
@@ -20,6 +24,7 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         String password = section.getString("password", "");
         int poolSize = section.getInt("pool-size", 10);
         Map<String, String> properties = readProperties(section.getConfigurationSection("properties"));
+        List<DatabaseEndpoint> replicas = readReplicas(section.getMapList("replicas"), port);
         if (host.isBlank()) {
             throw new IllegalArgumentException("database.host must not be blank");
         }
@@ -29,11 +34,11 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         if (username.isBlank()) {
             throw new IllegalArgumentException("database.username must not be blank");
         }
-        return new DatabaseYamlConfig(host, port, database, username, password, poolSize, properties);
+        return new DatabaseYamlConfig(host, port, database, username, password, poolSize, properties, replicas);
     }
 
     public DatabaseConfig toDatabaseConfig() {
-        return new DatabaseConfig(host, port, database, username, password, poolSize, properties);
+        return new DatabaseConfig(host, port, database, username, password, poolSize, properties, replicas);
     }
 
     private static Map<String, String> readProperties(ConfigurationSection section) {
@@ -48,6 +53,23 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         return Collections.unmodifiableMap(result);
     }
 
+    private static List<DatabaseEndpoint> readReplicas(List<Map<?, ?>> entries, int defaultPort) {
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+        List<DatabaseEndpoint> result = new ArrayList<>(entries.size());
+        for (Map<?, ?> entry : entries) {
+            Object host = entry.get("host");
+            if (host == null || host.toString().isBlank()) {
+                throw new IllegalArgumentException("database.replicas[].host must not be blank");
+            }
+            Object port = entry.get("port");
+            int replicaPort = port instanceof Number number ? number.intValue() : port == null ? defaultPort : Integer.parseInt(port.toString().trim());
+            result.add(new DatabaseEndpoint(host.toString(), replicaPort));
+        }
+        return List.copyOf(result);
+    }
+
     private static String trimToEmpty(String value) {
         return value == null ? "" : value.trim();
     }
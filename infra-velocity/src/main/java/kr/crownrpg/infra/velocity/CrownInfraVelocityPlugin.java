@@ -7,6 +7,8 @@ import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.plugin.annotation.DataDirectory;
 import com.velocitypowered.api.proxy.ProxyServer;
+import kr.crownrpg.infra.api.database.DatabaseClient;
+import kr.crownrpg.infra.api.database.DatabaseService;
 import kr.crownrpg.infra.velocity.bootstrap.InfraBootstrap;
 import org.slf4j.Logger;
 
@@ -43,6 +45,28 @@ public final class CrownInfraVelocityPlugin {
         }
     }
 
+    /**
+     * 다른 Velocity 플러그인이 {@code getPluginManager().getPlugin("crowninfra")}로 얻은 인스턴스에서 호출한다.
+     */
+    public DatabaseService getDatabaseService() {
+        return requireBootstrap().getDatabaseService();
+    }
+
+    /**
+     * {@link #getDatabaseService()}와 같은 풀을 쓰는 {@link DatabaseClient}.
+     */
+    public DatabaseClient getDatabaseClient() {
+        return requireBootstrap().getDatabaseClient();
+    }
+
+    private InfraBootstrap requireBootstrap() {
+        InfraBootstrap current = bootstrap;
+        if (current == null) {
+            throw new IllegalStateException("CrownInfra가 아직 초기화되지 않았습니다");
+        }
+        return current;
+    }
+
     @Subscribe
     public void onProxyShutdown(ProxyShutdownEvent event) {
         if (bootstrap != null) {
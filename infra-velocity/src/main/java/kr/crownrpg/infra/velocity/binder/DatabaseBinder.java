@@ -1,5 +1,6 @@
 package kr.crownrpg.infra.velocity.binder;
 
+import kr.crownrpg.infra.api.database.DatabaseClient;
 import kr.crownrpg.infra.api.database.DatabaseService;
 import kr.crownrpg.infra.core.database.HikariDatabaseService;
 import kr.crownrpg.infra.velocity.config.DatabaseYamlConfig;
@@ -55,10 +56,31 @@ public final class DatabaseBinder implements AutoCloseable {
         return service;
     }
 
+    /**
+     * {@link #getService()}와 같은 풀을 쓰는 {@link DatabaseClient} 뷰.
+     */
+    public DatabaseClient getClient() {
+        return service == null ? null : service.asDatabaseClient();
+    }
+
+    /**
+     * {@link MySqlBinder#start(HikariDatabaseService)}에 넘겨 풀을 공유할 때 사용한다.
+     */
+    public HikariDatabaseService getHikariService() {
+        return service;
+    }
+
     public boolean isStarted() {
         return started.get();
     }
 
+    /**
+     * 풀 예열까지 끝나 트래픽을 받을 수 있으면 {@code true}.
+     */
+    public boolean isReady() {
+        return service != null && service.isReady();
+    }
+
     @Override
     public void close() {
         stop();
@@ -2,6 +2,7 @@ package kr.crownrpg.infra.velocity.binder;
 
 import kr.crownrpg.infra.api.database.DatabaseClient;
 import kr.crownrpg.infra.core.database.HikariDatabaseProvider;
+import kr.crownrpg.infra.core.database.HikariDatabaseService;
 
 import java.io.Closeable;
 import java.util.Map;
@@ -18,6 +19,15 @@ public final class MySqlBinder implements Closeable {
         this.client = provider.getDatabaseClient();
     }
 
+    /**
+     * 이미 시작된 DatabaseService의 풀을 공유한다. 별도 풀을 만들지 않으므로 이 방식을 권장한다.
+     */
+    public void start(HikariDatabaseService shared) {
+        Objects.requireNonNull(shared, "shared");
+        provider.initialize(shared);
+        this.client = provider.getDatabaseClient();
+    }
+
     public DatabaseClient client() {
         DatabaseClient c = client;
         if (c == null) throw new IllegalStateException("MySqlBinder가 아직 시작되지 않았습니다.");
@@ -1,6 +1,7 @@
 package kr.crownrpg.infra.velocity.bootstrap;
 
 import kr.crownrpg.infra.api.context.InfraContext;
+import kr.crownrpg.infra.api.database.DatabaseClient;
 import kr.crownrpg.infra.api.database.DatabaseService;
 import kr.crownrpg.infra.api.redis.RedisBus;
 import kr.crownrpg.infra.velocity.binder.DatabaseBinder;
@@ -90,6 +91,29 @@ public final class InfraBootstrap {
         started = false;
     }
 
+    /**
+     * 부팅된 {@link DatabaseService}. Velocity에는 Bukkit ServicesManager 같은 레지스트리가 없으므로
+     * 다른 플러그인은 {@link kr.crownrpg.infra.velocity.CrownInfraVelocityPlugin} 인스턴스를 통해 얻는다.
+     */
+    public synchronized DatabaseService getDatabaseService() {
+        requireStarted();
+        return databaseBinder.getService();
+    }
+
+    /**
+     * {@link #getDatabaseService()}와 같은 풀을 쓰는 {@link DatabaseClient}.
+     */
+    public synchronized DatabaseClient getDatabaseClient() {
+        requireStarted();
+        return databaseBinder.getClient();
+    }
+
+    private void requireStarted() {
+        if (!started) {
+            throw new IllegalStateException("CrownInfra가 아직 시작되지 않았습니다");
+        }
+    }
+
     /**
      * 종료 과정에서 발생하는 예외를 잡아 로그로만 남기고 흐름을 이어간다.
      */
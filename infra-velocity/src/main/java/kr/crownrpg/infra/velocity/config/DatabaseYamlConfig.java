@@ -1,12 +1,16 @@
 package kr.crownrpg.infra.velocity.config;
 
 import kr.crownrpg.infra.api.database.DatabaseConfig;
+import kr.crownrpg.infra.api.database.DatabaseEndpoint;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
-public record DatabaseYamlConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties) {
+public record DatabaseYamlConfig(String host, int port, String database, String username, String password, int poolSize, Map<String, String> properties,
+                                 List<DatabaseEndpoint> replicas) {
 
     public static DatabaseYamlConfig fromMap(Map<String, Object> section) {
         if (section == null) {
@@ -19,6 +23,7 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         String password = section.get("password") == null ? "" : section.get("password").toString();
         int poolSize = toInt(section.get("pool-size"), 10);
         Map<String, String> properties = readProperties(section.get("properties"));
+        List<DatabaseEndpoint> replicas = readReplicas(section.get("replicas"), port);
         if (host.isBlank()) {
             throw new IllegalArgumentException("database.host 값이 비어 있습니다.");
         }
@@ -28,11 +33,11 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         if (username.isBlank()) {
             throw new IllegalArgumentException("database.username 값이 비어 있습니다.");
         }
-        return new DatabaseYamlConfig(host, port, database, username, password, poolSize, properties);
+        return new DatabaseYamlConfig(host, port, database, username, password, poolSize, properties, replicas);
     }
 
     public DatabaseConfig toDatabaseConfig() {
-        return new DatabaseConfig(host, port, database, username, password, poolSize, properties);
+        return new DatabaseConfig(host, port, database, username, password, poolSize, properties, replicas);
     }
 
     private static Map<String, String> readProperties(Object value) {
@@ -54,6 +59,24 @@ public record DatabaseYamlConfig(String host, int port, String database, String
         return Collections.unmodifiableMap(result);
     }
 
+    private static List<DatabaseEndpoint> readReplicas(Object value, int defaultPort) {
+        if (!(value instanceof List<?> list) || list.isEmpty()) {
+            return List.of();
+        }
+        List<DatabaseEndpoint> result = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?> entry)) {
+                throw new IllegalArgumentException("database.replicas 항목은 host/port 맵이어야 합니다.");
+            }
+            String host = trimToEmpty(entry.get("host"));
+            if (host.isBlank()) {
+                throw new IllegalArgumentException("database.replicas[].host 값이 비어 있습니다.");
+            }
+            result.add(new DatabaseEndpoint(host, toInt(entry.get("port"), defaultPort)));
+        }
+        return List.copyOf(result);
+    }
+
     private static String trimToEmpty(Object value) {
         return value == null ? "" : value.toString().trim();
     }